@@ -0,0 +1,12 @@
+package com.example.cmManagementSystem.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Uygulama içi önbellek yapılandırması (varsayılan ConcurrentMap tabanlı önbellek yöneticisi)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,12 @@
+package com.example.cmManagementSystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Zamanlanmış görevlerin (@Scheduled) etkinleştirilmesi
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.example.cmManagementSystem.controller;
 
 import com.example.cmManagementSystem.dto.BudgetDto;
+import com.example.cmManagementSystem.dto.CursorPage;
 import com.example.cmManagementSystem.dto.TransactionDto;
 import com.example.cmManagementSystem.service.BudgetService;
 import com.example.cmManagementSystem.service.TransactionService;
@@ -57,6 +58,16 @@ public class BudgetController {
         return ResponseEntity.ok(transactionService.findByClub(clubId));
     }
     
+    // Finansal işlemleri imleç tabanlı sayfalama ile getir (kulüp verilmezse sadece ADMIN)
+    @GetMapping("/transactions")
+    @PreAuthorize("hasRole('ADMIN') or #clubId != null")
+    public ResponseEntity<CursorPage<TransactionDto>> getTransactionsByCursor(
+            @RequestParam(required = false) Long clubId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(transactionService.findAllByCursor(clubId, after, size));
+    }
+    
     // Finansal işlem getir (ID'ye göre)
     @GetMapping("/transactions/{id}")
     public ResponseEntity<TransactionDto> getTransactionById(@PathVariable Long id) {
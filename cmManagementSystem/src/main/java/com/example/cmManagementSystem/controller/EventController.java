@@ -1,5 +1,9 @@
 package com.example.cmManagementSystem.controller;
 
+import com.example.cmManagementSystem.dto.BulkRegistrationRequestDto;
+import com.example.cmManagementSystem.dto.BulkRegistrationResultDto;
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.EventDetailDto;
 import com.example.cmManagementSystem.dto.EventDto;
 import com.example.cmManagementSystem.dto.EventSpeakerDto;
 import com.example.cmManagementSystem.dto.EventProgramDto;
@@ -8,19 +12,28 @@ import com.example.cmManagementSystem.dto.WaitingListDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
 import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.entity.User;
 import com.example.cmManagementSystem.service.EventService;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -29,10 +42,12 @@ import java.util.Optional;
 public class EventController {
     
     private final EventService eventService;
+    private final WaitlistStreamService waitlistStreamService;
     
     @Autowired
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, WaitlistStreamService waitlistStreamService) {
         this.eventService = eventService;
+        this.waitlistStreamService = waitlistStreamService;
     }
     
     // Tüm etkinlikleri getir
@@ -58,6 +73,36 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
     
+    // Etkinlikleri imleç tabanlı sayfalama ile getir (derin sayfalarda OFFSET taraması yapmaz)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<EventDto>> getEventsByCursor(
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(eventService.findAllByCursor(status, category, after, size));
+    }
+    
+    // Anahtar kelime ile etkinlik ara (ilgililik sırasına göre)
+    @GetMapping("/search")
+    public ResponseEntity<List<EventDto>> searchEvents(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(eventService.searchEvents(keyword, status, pageable).getContent());
+    }
+    
+    // Arama indeksini veritabanından yeniden oluştur (sadece ADMIN)
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> rebuildSearchIndex() {
+        return ResponseEntity.ok(eventService.rebuildSearchIndex());
+    }
+    
     // Etkinlik kategorilerini getir
     @GetMapping("/categories")
     public ResponseEntity<List<String>> getAllCategories() {
@@ -65,6 +110,12 @@ public class EventController {
         return ResponseEntity.ok(categories);
     }
     
+    // Kategori başına etkinlik sayılarını getir
+    @GetMapping("/categories/counts")
+    public ResponseEntity<Map<String, Long>> getCategoryCounts() {
+        return ResponseEntity.ok(eventService.findCategoryCounts());
+    }
+    
     // ID'ye göre etkinlik getir
     @GetMapping("/{id}")
     public ResponseEntity<EventDto> getEventById(@PathVariable Long id) {
@@ -72,6 +123,12 @@ public class EventController {
         return ResponseEntity.ok(event);
     }
     
+    // Etkinlik detay sayfası: etkinlik, konuşmacılar, program, sponsorlar ve sayılar tek yanıtta
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<EventDetailDto> getEventDetail(@PathVariable Long id) {
+        return ResponseEntity.ok(eventService.getEventDetail(id));
+    }
+    
     // Kulübe göre etkinlikleri getir
     @GetMapping("/club/{clubId}")
     public ResponseEntity<List<EventDto>> getEventsByClub(
@@ -84,10 +141,21 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
     
-    // Kullanıcının katıldığı/kayıt olduğu etkinlikleri getir
+    // Kullanıcının katıldığı/kayıt olduğu etkinlikleri getir.
+    // page/size verilmezse tüm etkinlikler döner (önceki davranış); verilirse yalnızca istenen sayfa döner
     @GetMapping("/participation/user/{userId}")
-    public ResponseEntity<List<EventDto>> getEventsByParticipant(@PathVariable Long userId) {
-        List<EventDto> events = eventService.findEventsByParticipant(userId);
+    public ResponseEntity<List<EventDto>> getEventsByParticipant(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        
+        Pageable pageable = page == null && size == null
+                ? Pageable.unpaged()
+                : PageRequest.of(page != null ? page : 0, size != null ? size : 20);
+        List<EventDto> events = eventService.findEventsByParticipant(userId, status, from, to, pageable).getContent();
         return ResponseEntity.ok(events);
     }
     
@@ -127,10 +195,28 @@ public class EventController {
     
     // Etkinliğe katılım (kayıt)
     @PostMapping("/{eventId}/register")
-    public ResponseEntity<Void> registerForEvent(
+    public ResponseEntity<EventParticipation.ParticipationStatus> registerForEvent(
             @PathVariable Long eventId,
             @RequestParam Long userId) {
-        eventService.registerForEvent(eventId, userId);
+        return ResponseEntity.ok(eventService.registerForEvent(eventId, userId));
+    }
+    
+    // Öğrenci listesini toplu olarak etkinliğe kaydet (ADMIN veya CLUB_PRESIDENT)
+    @PostMapping("/{eventId}/registrations:bulk")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @eventAuthService.isEventCreatedByUser(authentication.principal, #eventId))")
+    public ResponseEntity<BulkRegistrationResultDto> registerBulk(
+            @PathVariable Long eventId,
+            @Valid @RequestBody BulkRegistrationRequestDto request) {
+        return ResponseEntity.ok(eventService.registerBulk(eventId, request.getStudentIds()));
+    }
+    
+    // Yoğun kayıt modunu aç/kapat (ADMIN veya CLUB_PRESIDENT)
+    @PutMapping("/{eventId}/burst-mode")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @eventAuthService.isEventCreatedByUser(authentication.principal, #eventId))")
+    public ResponseEntity<Void> setBurstMode(
+            @PathVariable Long eventId,
+            @RequestParam boolean enabled) {
+        eventService.setBurstMode(eventId, enabled);
         return ResponseEntity.ok().build();
     }
     
@@ -279,6 +365,16 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
     
+    // Oturumdaki kullanıcının bekleme listesi sırasını, tekliflerini ve kayıt durumunu canlı izle (Server-Sent Events)
+    @GetMapping(value = "/{id}/waitlist/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SseEmitter> streamWaitlistStatus(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user) {
+        eventService.findById(id);
+        return ResponseEntity.ok(waitlistStreamService.subscribe(id, user.getId()));
+    }
+    
     // Mekan Rezervasyonları
 
     // Etkinlik mekan rezervasyonlarını getir
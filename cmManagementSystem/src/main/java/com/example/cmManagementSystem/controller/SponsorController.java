@@ -1,5 +1,6 @@
 package com.example.cmManagementSystem.controller;
 
+import com.example.cmManagementSystem.dto.CursorPage;
 import com.example.cmManagementSystem.dto.SponsorDto;
 import com.example.cmManagementSystem.service.SponsorService;
 import jakarta.validation.Valid;
@@ -29,6 +30,14 @@ public class SponsorController {
         return ResponseEntity.ok(sponsorService.findAll());
     }
     
+    // Sponsorları imleç tabanlı sayfalama ile getir
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<SponsorDto>> getSponsorsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(sponsorService.findAllByCursor(after, size));
+    }
+    
     // ID'ye göre sponsor getir
     @GetMapping("/{id}")
     public ResponseEntity<SponsorDto> getSponsorById(@PathVariable Long id) {
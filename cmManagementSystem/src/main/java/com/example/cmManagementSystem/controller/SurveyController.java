@@ -3,15 +3,20 @@ package com.example.cmManagementSystem.controller;
 import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.dto.SurveyQuestionDto;
 import com.example.cmManagementSystem.dto.SurveyResponseDto;
+import com.example.cmManagementSystem.dto.SurveySubmissionDto;
 import com.example.cmManagementSystem.service.SurveyService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -119,6 +124,14 @@ public class SurveyController {
         return new ResponseEntity<>(surveyService.submitResponse(id, responseDto), HttpStatus.CREATED);
     }
     
+    // Ankete tüm yanıtları tek seferde gönder
+    @PostMapping("/{id}/submissions")
+    public ResponseEntity<List<SurveyResponseDto>> submitSurvey(
+            @PathVariable Long id,
+            @Valid @RequestBody SurveySubmissionDto submissionDto) {
+        return new ResponseEntity<>(surveyService.submitAll(id, submissionDto), HttpStatus.CREATED);
+    }
+    
     // Anket yanıtlarını getir (ADMIN veya CLUB_PRESIDENT)
     @GetMapping("/{id}/responses")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @surveyService.isSurveyCreatedByUser(authentication.principal, #id))")
@@ -126,6 +139,28 @@ public class SurveyController {
         return ResponseEntity.ok(surveyService.getResponses(id));
     }
     
+    // Anket yanıtlarını CSV veya NDJSON olarak akış halinde dışa aktar (ADMIN veya CLUB_PRESIDENT)
+    @GetMapping("/{id}/responses/export")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @surveyService.isSurveyCreatedByUser(authentication.principal, #id))")
+    public void exportSurveyResponses(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        SurveyService.ExportFormat exportFormat;
+        try {
+            exportFormat = SurveyService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Desteklenmeyen dışa aktarım biçimi: " + format);
+        }
+        
+        String extension = exportFormat.name().toLowerCase(Locale.ROOT);
+        response.setContentType(exportFormat == SurveyService.ExportFormat.CSV
+                ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"survey-" + id + "-responses." + extension + "\"");
+        surveyService.exportResponses(id, exportFormat, response.getOutputStream());
+    }
+    
     // Anket sonuçlarını analiz et (ADMIN veya CLUB_PRESIDENT)
     @GetMapping("/{id}/results")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @surveyService.isSurveyCreatedByUser(authentication.principal, #id))")
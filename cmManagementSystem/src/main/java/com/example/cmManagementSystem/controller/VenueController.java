@@ -1,7 +1,12 @@
 package com.example.cmManagementSystem.controller;
 
+import com.example.cmManagementSystem.dto.ReservationSeriesRequestDto;
+import com.example.cmManagementSystem.dto.ReservationSeriesResultDto;
+import com.example.cmManagementSystem.dto.TimeSlotDto;
 import com.example.cmManagementSystem.dto.VenueDto;
+import com.example.cmManagementSystem.dto.VenueOccupancyDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
+import com.example.cmManagementSystem.dto.VenueSearchRequestDto;
 import com.example.cmManagementSystem.service.VenueService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +38,25 @@ public class VenueController {
         return ResponseEntity.ok(venueService.findAll());
     }
     
+    // Verilen noktaya en yakın mekanları uzaklık sırasıyla getir
+    @GetMapping("/nearby")
+    public ResponseEntity<List<VenueDto>> getNearbyVenues(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(venueService.findNearby(lat, lon, radiusKm, limit));
+    }
+    
+    // Tüm mekanların 15 dakikalık doluluk tablosu (ADMIN)
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VenueOccupancyDto> getVenueOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(venueService.getOccupancy(from, to));
+    }
+    
     // ID'ye göre mekan getir
     @GetMapping("/{id}")
     public ResponseEntity<VenueDto> getVenueById(@PathVariable Long id) {
@@ -70,6 +94,22 @@ public class VenueController {
         return ResponseEntity.ok(venueService.checkAvailability(id, startDate, endDate));
     }
     
+    // Verilen zaman aralığında boş olan mekanları uygunluk sırasıyla getir
+    @PostMapping("/search-available")
+    public ResponseEntity<List<VenueDto>> searchAvailableVenues(@Valid @RequestBody VenueSearchRequestDto request) {
+        return ResponseEntity.ok(venueService.searchAvailable(request));
+    }
+    
+    // Mekanın verilen zaman penceresindeki boş aralıklarını getir
+    @GetMapping("/{id}/free-slots")
+    public ResponseEntity<List<TimeSlotDto>> getVenueFreeSlots(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "30") int minMinutes) {
+        return ResponseEntity.ok(venueService.findFreeSlots(id, from, to, minMinutes));
+    }
+    
     // Mekana ait tüm rezervasyonları getir (ADMIN veya CLUB_PRESIDENT)
     @GetMapping("/{id}/reservations")
     @PreAuthorize("hasRole('ADMIN') or hasRole('CLUB_PRESIDENT')")
@@ -86,6 +126,15 @@ public class VenueController {
         return new ResponseEntity<>(venueService.createReservation(id, reservationDto), HttpStatus.CREATED);
     }
     
+    // Tekrarlayan rezervasyon serisi oluştur (ADMIN veya CLUB_PRESIDENT)
+    @PostMapping("/{id}/reservation-series")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLUB_PRESIDENT')")
+    public ResponseEntity<ReservationSeriesResultDto> createReservationSeries(
+            @PathVariable Long id,
+            @Valid @RequestBody ReservationSeriesRequestDto request) {
+        return new ResponseEntity<>(venueService.createReservationSeries(id, request), HttpStatus.CREATED);
+    }
+    
     // Rezervasyon güncelle (ADMIN veya CLUB_PRESIDENT)
     @PutMapping("/reservations/{id}")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @venueService.isReservationMadeByClub(authentication.principal, #id))")
@@ -1,6 +1,7 @@
 package com.example.cmManagementSystem.controller;
 
 import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.dto.WaitingListMoveDto;
 import com.example.cmManagementSystem.dto.UserDto;
 import com.example.cmManagementSystem.service.WaitingListService;
 import jakarta.validation.Valid;
@@ -62,8 +63,8 @@ public class WaitingListController {
     @PreAuthorize("hasRole('ADMIN') or (hasRole('CLUB_PRESIDENT') and @eventAuthService.isEventCreatedByUser(authentication.principal, #eventId))")
     public ResponseEntity<List<WaitingListDto>> reorderWaitingList(
             @PathVariable Long eventId,
-            @Valid @RequestBody List<WaitingListDto> waitingList) {
-        return ResponseEntity.ok(waitingListService.reorderWaitingList(eventId, waitingList));
+            @Valid @RequestBody List<WaitingListMoveDto> moves) {
+        return ResponseEntity.ok(waitingListService.reorderWaitingList(eventId, moves));
     }
     
     // Kullanıcının bekleme listesi durumunu kontrol et
@@ -0,0 +1,21 @@
+package com.example.cmManagementSystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationRequestDto {
+    
+    @NotEmpty(message = "Öğrenci numarası listesi boş olamaz")
+    @Size(max = 2000, message = "Tek seferde en fazla 2000 öğrenci kaydedilebilir")
+    private List<String> studentIds;
+}
@@ -0,0 +1,55 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Toplu kayıt raporu: istekteki her öğrenci numarası için bir sonuç satırı (istek sırasıyla)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationResultDto {
+    
+    private Long eventId;
+    
+    private int requested;
+    
+    private int registered;
+    
+    private int waitlisted;
+    
+    private int skipped;
+    
+    @Builder.Default
+    private List<Entry> results = new ArrayList<>();
+    
+    // Tek bir öğrencinin kayıt sonucu
+    public enum Outcome {
+        REGISTERED,          // Kaydedildi
+        WAITLISTED,          // Kontenjan dolduğu için bekleme listesine alındı
+        ALREADY_REGISTERED,  // Zaten aktif bir katılımı var
+        ALREADY_WAITLISTED,  // Zaten bekleme listesinde
+        USER_NOT_FOUND,      // Öğrenci numarasına ait kullanıcı yok
+        DUPLICATE,           // Aynı numara istekte birden fazla kez geçiyor
+        REJECTED             // Kontenjan dolu ve bekleme listesi kapalı
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        
+        private String studentId;
+        
+        private Long userId;
+        
+        private Outcome outcome;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * İmleç (keyset) tabanlı sayfa. Toplam kayıt sayısı hesaplanmaz;
+ * sonraki sayfa nextCursor değeri "after" parametresi olarak gönderilerek alınır.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private List<T> content;
+    
+    private String nextCursor;
+    
+    private boolean hasNext;
+    
+    /**
+     * İstenen sayfa boyutunu 1 ile MAX_PAGE_SIZE arasına sınırlar
+     *
+     * @param size İstenen sayfa boyutu
+     * @return Geçerli sayfa boyutu
+     */
+    public static int boundedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+    
+    /**
+     * size + 1 kayıt ile sorgulanmış satırlardan sayfa oluşturur. Fazladan gelen kayıt
+     * yalnızca sonraki sayfanın var olduğunu göstermek için kullanılır.
+     *
+     * @param rows Sorgu sonucu (en fazla size + 1 kayıt)
+     * @param size Sayfa boyutu
+     * @param mapper Entity - DTO dönüştürücü
+     * @param cursorOf Kayıttan imleç üretici
+     * @return İmleç tabanlı sayfa
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Etkinlik detay sayfası için tek yanıtta toplanan bilgiler
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDetailDto {
+    
+    private EventDto event;
+    
+    @Builder.Default
+    private List<EventSpeakerDto> speakers = new ArrayList<>();
+    
+    @Builder.Default
+    private List<EventProgramDto> program = new ArrayList<>();
+    
+    @Builder.Default
+    private List<SponsorDto> sponsors = new ArrayList<>();
+    
+    private int participantCount;
+    
+    private int waitlistCount;
+}
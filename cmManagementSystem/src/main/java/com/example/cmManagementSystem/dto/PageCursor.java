@@ -0,0 +1,52 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset sayfalamada son görülen kaydın (sıralama değeri, id) ikilisi.
+ * İstemciye opak bir Base64 dizgesi olarak verilir.
+ */
+@Data
+@AllArgsConstructor
+public class PageCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    // Sıralama tarihi (startDate, transactionDate); yalnızca id ile sıralanan listelerde null
+    private LocalDateTime sortValue;
+    
+    private Long id;
+    
+    public String encode() {
+        String raw = (sortValue != null ? sortValue.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * İstemciden gelen imleci çözer
+     *
+     * @param cursor Opak imleç (null veya boş ise ilk sayfa)
+     * @return PageCursor veya ilk sayfa için null
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String sortPart = raw.substring(0, separator);
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new PageCursor(sortPart.isEmpty() ? null : LocalDateTime.parse(sortPart), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.cmManagementSystem.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Tekrarlayan rezervasyon isteği. İlk tekrarın başlangıç ve bitişi verilir; diğer tekrarlar
+ * aynı süreyle kuraldan (sıklık, aralık, haftanın günleri) türetilir ve count veya until ile sınırlanır.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSeriesRequestDto {
+    
+    @NotNull(message = "Başlangıç zamanı zorunludur")
+    private LocalDateTime startTime;
+    
+    @NotNull(message = "Bitiş zamanı zorunludur")
+    private LocalDateTime endTime;
+    
+    @NotNull(message = "Tekrar sıklığı zorunludur")
+    private Frequency frequency;
+    
+    // Her kaç günde/haftada bir tekrarlanacağı (varsayılan 1)
+    @Min(value = 1, message = "Tekrar aralığı en az 1 olmalıdır")
+    private Integer interval;
+    
+    // Yalnızca WEEKLY için; boşsa ilk tekrarın günü kullanılır
+    private Set<DayOfWeek> daysOfWeek;
+    
+    @Min(value = 1, message = "Tekrar sayısı en az 1 olmalıdır")
+    @Max(value = 200, message = "Bir seride en fazla 200 tekrar olabilir")
+    private Integer count;
+    
+    // Bu zamandan sonra başlayan tekrar oluşturulmaz
+    private LocalDateTime until;
+    
+    private Long eventId;
+    
+    private Long clubId;
+    
+    private Long createdById;
+    
+    @Positive(message = "Maliyet pozitif olmalıdır")
+    private BigDecimal cost;
+    
+    @Positive(message = "Katılımcı sayısı pozitif olmalıdır")
+    private Integer attendeeCount;
+    
+    private String specialRequirements;
+    
+    public enum Frequency {
+        DAILY,   // Her gün
+        WEEKLY   // Her hafta
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tekrarlayan rezervasyon raporu: serideki her tekrar için bir sonuç satırı (zaman sırasıyla)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSeriesResultDto {
+    
+    private Long venueId;
+    
+    private String seriesCode;
+    
+    private int requested;
+    
+    private int created;
+    
+    private int conflicted;
+    
+    @Builder.Default
+    private List<Occurrence> occurrences = new ArrayList<>();
+    
+    // Tek bir tekrarın sonucu
+    public enum Outcome {
+        CREATED,         // Rezervasyon oluşturuldu
+        CONFLICT,        // Mekanın mevcut bir rezervasyonuyla çakışıyor
+        SERIES_OVERLAP   // Serinin önceki bir tekrarıyla çakışıyor
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Occurrence {
+        
+        private LocalDateTime startTime;
+        
+        private LocalDateTime endTime;
+        
+        private Outcome outcome;
+        
+        private Long reservationId;
+        
+        private String reservationCode;
+        
+        private List<Long> conflictingReservationIds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.cmManagementSystem.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bir katılımcının anketteki tüm yanıtları; tek istekte doğrulanıp kaydedilir
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveySubmissionDto {
+    
+    private Long userId;
+    
+    private String anonymousUserToken;
+    
+    private String ipAddress;
+    
+    private String userAgent;
+    
+    @Valid
+    @NotEmpty(message = "En az bir yanıt gönderilmelidir")
+    @Builder.Default
+    private List<Answer> answers = new ArrayList<>();
+    
+    // Tek bir soruya verilen yanıt
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Answer {
+        
+        @NotNull(message = "Soru ID zorunludur")
+        private Long questionId;
+        
+        private String responseText;
+        
+        private Integer responseValue;
+        
+        private String selectedOptions;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yarı açık zaman aralığı: [startTime, endTime)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSlotDto {
+    
+    private LocalDateTime startTime;
+    
+    private LocalDateTime endTime;
+}
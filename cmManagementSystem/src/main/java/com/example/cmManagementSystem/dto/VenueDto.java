@@ -72,4 +72,7 @@ public class VenueDto {
     private boolean isAvailable;
     
     private Integer upcomingReservationsCount;
+    
+    // Yalnızca yakınlık aramalarında doldurulur
+    private Double distanceKm;
 } 
\ No newline at end of file
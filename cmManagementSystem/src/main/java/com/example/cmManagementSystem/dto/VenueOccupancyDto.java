@@ -0,0 +1,51 @@
+package com.example.cmManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mekan doluluk tablosu: her mekan için [from, to) penceresindeki 15 dakikalık dilimlerin doluluğu
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueOccupancyDto {
+    
+    private LocalDateTime from;
+    
+    private LocalDateTime to;
+    
+    private int slotMinutes;
+    
+    private int slotCount;
+    
+    // Tüm mekanların dolu dilimlerinin toplam dilimlere oranı (%)
+    private double utilizationPercent;
+    
+    @Builder.Default
+    private List<Row> venues = new ArrayList<>();
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        
+        private Long venueId;
+        
+        private String venueName;
+        
+        // Dilim başına bir karakter: '1' dolu, '0' boş
+        private String slots;
+        
+        private int busySlots;
+        
+        private double utilizationPercent;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cmManagementSystem.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueSearchRequestDto {
+    
+    @NotNull(message = "Başlangıç zamanı zorunludur")
+    private LocalDateTime startTime;
+    
+    @NotNull(message = "Bitiş zamanı zorunludur")
+    private LocalDateTime endTime;
+    
+    @Positive(message = "Kapasite pozitif olmalıdır")
+    private Integer minCapacity;
+    
+    private Boolean isUniversityVenue;
+    
+    private String city;
+}
@@ -0,0 +1,26 @@
+package com.example.cmManagementSystem.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bekleme listesi yeniden sıralama isteğindeki tek bir taşıma:
+ * kayıt ID'si ve listede görünmesi istenen sıra numarası (1'den başlar)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingListMoveDto {
+    
+    @NotNull(message = "Bekleme listesi kaydı ID'si boş olamaz")
+    private Long id;
+    
+    @NotNull(message = "Hedef pozisyon boş olamaz")
+    @Min(value = 1, message = "Hedef pozisyon 1'den küçük olamaz")
+    private Integer position;
+}
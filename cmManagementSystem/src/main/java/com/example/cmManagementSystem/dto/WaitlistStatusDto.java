@@ -0,0 +1,35 @@
+package com.example.cmManagementSystem.dto;
+
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.entity.WaitingList;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Canlı bekleme listesi akışında kullanıcıya gönderilen anlık durum:
+ * bekleme listesi sırası, teklif son tarihi ve etkinlik kayıt durumu
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistStatusDto {
+    
+    private Long eventId;
+    
+    private Long userId;
+    
+    // Bekleme listesinde değilse null
+    private WaitingList.WaitingStatus waitlistStatus;
+    
+    private Integer position;
+    
+    private LocalDateTime responseDeadline;
+    
+    // Etkinliğe kaydı yoksa null
+    private EventParticipation.ParticipationStatus participationStatus;
+}
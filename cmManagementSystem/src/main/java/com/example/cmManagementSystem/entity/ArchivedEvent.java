@@ -0,0 +1,90 @@
+package com.example.cmManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arşivlenmiş (tamamlanmış ve saklama süresi dolmuş) etkinlik kaydı.
+ * Satırlar EventCleanupService tarafından events tablosundan taşınır; ID korunur.
+ * Kulüp ve oluşturan kullanıcı yabancı anahtar olmadan saklanır, böylece arşiv
+ * kayıtları kulüp/kullanıcı silinmesini engellemez.
+ */
+@Entity
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_club", columnList = "club_id"),
+        @Index(name = "idx_events_archive_end_date", columnList = "end_date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEvent {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(length = 2000)
+    private String description;
+    
+    @Column
+    private String category;
+    
+    @Column
+    private String location;
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+    
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+    
+    @Column
+    private Integer capacity;
+    
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+    
+    @Column(name = "participant_count")
+    private Integer participantCount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Event.EventStatus status;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private Event.EventType type;
+    
+    @Column(name = "budget")
+    private Double budget;
+    
+    @Column(name = "club_id")
+    private Long clubId;
+    
+    @Column(name = "created_by")
+    private Long createdById;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Kaynak satırın tüm sütunları (yukarıda ayrı sütunu olmayanlar dahil) JSON olarak
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "row_data")
+    private String rowData;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
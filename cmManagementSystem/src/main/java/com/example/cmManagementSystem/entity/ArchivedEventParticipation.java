@@ -0,0 +1,75 @@
+package com.example.cmManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arşivlenmiş bir etkinliğe ait katılım kaydı. Satırlar etkinlikle birlikte
+ * event_participations tablosundan taşınır; ID korunur.
+ */
+@Entity
+@Table(name = "event_participations_archive", indexes = {
+        @Index(name = "idx_participations_archive_event", columnList = "event_id"),
+        @Index(name = "idx_participations_archive_user", columnList = "user_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEventParticipation {
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventParticipation.ParticipationStatus status;
+    
+    @Column(name = "registration_date")
+    private LocalDateTime registrationDate;
+    
+    @Column(name = "attendance_date")
+    private LocalDateTime attendanceDate;
+    
+    @Column(name = "cancellation_date")
+    private LocalDateTime cancellationDate;
+    
+    @Column(name = "cancellation_reason")
+    private String cancellationReason;
+    
+    @Column(name = "feedback_text", length = 1000)
+    private String feedbackText;
+    
+    @Column(name = "feedback_rating")
+    private Integer feedbackRating;
+    
+    @Column(name = "feedback_date")
+    private LocalDateTime feedbackDate;
+    
+    @Column(name = "certificate_code")
+    private String certificateCode;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // Kaynak satırın tüm sütunları (yukarıda ayrı sütunu olmayanlar dahil) JSON olarak
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "row_data")
+    private String rowData;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
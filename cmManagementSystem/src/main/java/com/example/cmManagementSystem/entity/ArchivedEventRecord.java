@@ -0,0 +1,43 @@
+package com.example.cmManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arşivlenmiş bir etkinliğin diğer alt kayıtları (konuşmacılar, program, ikram, bekleme listesi,
+ * sponsor bağlantıları). Her satır kaynak tablodaki haliyle JSON olarak saklanır.
+ */
+@Entity
+@Table(name = "event_records_archive", indexes = {
+        @Index(name = "idx_records_archive_event", columnList = "event_id, source_table")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEventRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(name = "source_table", nullable = false, length = 64)
+    private String sourceTable;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "row_data", nullable = false)
+    private String rowData;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
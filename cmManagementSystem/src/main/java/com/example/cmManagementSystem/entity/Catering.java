@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "caterings")
+@Table(name = "caterings", indexes = {
+        @Index(name = "idx_caterings_event", columnList = "event_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
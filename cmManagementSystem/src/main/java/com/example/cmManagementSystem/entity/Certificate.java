@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "certificates")
+@Table(name = "certificates", indexes = {
+        @Index(name = "idx_certificates_event", columnList = "event_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
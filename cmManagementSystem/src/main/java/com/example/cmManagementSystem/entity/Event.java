@@ -11,13 +11,25 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@NamedEntityGraph(name = Event.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("club"),
+        @NamedAttributeNode("createdBy")
+})
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_category", columnList = "category"),
+        @Index(name = "idx_events_start_date_id", columnList = "start_date, id"),
+        @Index(name = "idx_events_status_end_date", columnList = "status, end_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
     
+    // Detay sayfasında etkinlikle aynı sorguda yüklenen ilişkiler. Konuşmacı, program ve sponsor
+    // koleksiyonları ayrı sorgularla liste olarak alınır; aynı sorguda birleştirmek kartezyen çarpım üretir.
+    public static final String DETAIL_GRAPH = "Event.detail";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -79,6 +91,11 @@ public class Event {
     @Column(name = "waitlist_limit")
     private Integer waitlistLimit;
     
+    // Yoğun kayıt modu: kayıtlar bellekte sıralanıp toplu olarak yazılır (bkz. RegistrationSequencer)
+    @Column(name = "burst_mode")
+    @Builder.Default
+    private Boolean burstMode = false;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "club_id")
     private Club club;
@@ -123,6 +140,18 @@ public class Event {
     @Column(name = "max_participants")
     private Integer maxParticipants;
     
+    // Aktif (REGISTERED/ATTENDED) katılımcı sayacı. Entity kaydı bu alanı yazmaz;
+    // yalnızca EventRepository'deki koşullu UPDATE sorguları ile atomik olarak güncellenir.
+    @Column(name = "participant_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    private Integer participantCount;
+    
+    // Bekleme listesinde en son verilen sıra numarası. Yalnızca EventRepository.allocateWaitlistPositions
+    // ile atomik olarak artırılır; eşzamanlı katılımlar aynı sırayı alamaz.
+    @Column(name = "waitlist_sequence", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    private Integer waitlistSequence;
+    
     @Column(name = "budget")
     private Double budget;
     
@@ -163,6 +192,15 @@ public class Event {
         this.maxParticipants = maxParticipants;
     }
     
+    public int getParticipantCount() {
+        return this.participantCount != null ? this.participantCount : 0;
+    }
+    
+    // Geçerli kontenjan: maxParticipants tanımlıysa o, değilse capacity. İkisi de yoksa sınırsız (null)
+    public Integer getEffectiveCapacity() {
+        return this.maxParticipants != null ? this.maxParticipants : this.capacity;
+    }
+    
     public Double getBudget() {
         return this.budget;
     }
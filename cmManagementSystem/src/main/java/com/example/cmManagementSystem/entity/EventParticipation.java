@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_participations")
+@Table(name = "event_participations",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "user_id"}))
 @Data
 @Builder
 @NoArgsConstructor
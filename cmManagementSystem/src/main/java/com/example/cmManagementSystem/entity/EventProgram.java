@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_programs")
+@NamedEntityGraph(name = "EventProgram.withSpeaker", attributeNodes = @NamedAttributeNode("speaker"))
+@Table(name = "event_programs", indexes = {
+        @Index(name = "idx_event_programs_event", columnList = "event_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
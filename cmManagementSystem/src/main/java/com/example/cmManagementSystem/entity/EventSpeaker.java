@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_speakers")
+@Table(name = "event_speakers", indexes = {
+        @Index(name = "idx_event_speakers_event", columnList = "event_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,49 @@
+package com.example.cmManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bir sorunun önceden hesaplanmış yanıt özeti: yanıt sayısı ve sayısal değerlerin sayısı, toplamı,
+ * en küçüğü ve en büyüğü. Yanıt kaydedilirken artımlı olarak güncellenir (SurveyTallyService).
+ */
+@Entity
+@Table(name = "survey_question_tallies", indexes = {
+        @Index(name = "idx_survey_question_tallies_survey", columnList = "survey_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyQuestionTally {
+    
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+    
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+    
+    @Column(name = "response_count", nullable = false)
+    private Long responseCount;
+    
+    @Column(name = "value_count", nullable = false)
+    private Long valueCount;
+    
+    @Column(name = "value_sum", nullable = false)
+    private Long valueSum;
+    
+    @Column(name = "value_min")
+    private Integer valueMin;
+    
+    @Column(name = "value_max")
+    private Integer valueMax;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
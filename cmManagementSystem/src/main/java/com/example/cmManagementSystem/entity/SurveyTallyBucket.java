@@ -0,0 +1,46 @@
+package com.example.cmManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bir sorunun seçenek sayacı (OPTION) veya derecelendirme histogramı (VALUE) kovası
+ */
+@Entity
+@Table(name = "survey_tally_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_survey_tally_buckets_key", columnNames = {"question_id", "kind", "bucket_key"}),
+        indexes = @Index(name = "idx_survey_tally_buckets_survey", columnList = "survey_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyTallyBucket {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+    
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+    
+    @Column(name = "bucket_key", nullable = false, length = 1000)
+    private String bucketKey;
+    
+    @Column(name = "bucket_count", nullable = false)
+    private Long count;
+    
+    public enum Kind {
+        OPTION,  // Seçenek sayacı
+        VALUE    // Derecelendirme/ölçek değeri histogramı
+    }
+}
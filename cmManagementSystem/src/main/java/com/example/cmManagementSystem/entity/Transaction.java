@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_date_id", columnList = "transaction_date, id"),
+        // Kulübe göre süzülen keyset sayfalaması (findFirstPage/findPageAfter) için
+        @Index(name = "idx_transactions_club_date_id", columnList = "club_id, transaction_date, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "venues")
+@Table(name = "venues", indexes = {
+        @Index(name = "idx_venues_geo", columnList = "geo_lat, geo_lon")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,6 +52,14 @@ public class Venue {
     @Column
     private String longitude;
     
+    // Sayısal koordinatlar: metin latitude/longitude alanlarından kayıt sırasında türetilir,
+    // bölge ve yakınlık sorguları bu alanları kullanır
+    @Column(name = "geo_lat")
+    private Double geoLat;
+    
+    @Column(name = "geo_lon")
+    private Double geoLon;
+    
     @Column
     private Integer capacity;
     
@@ -98,11 +108,35 @@ public class Venue {
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        syncCoordinates();
     }
     
     // Güncelleme zamanını ayarla
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        syncCoordinates();
+    }
+    
+    // Geçersiz veya aralık dışı koordinatlar null olarak kaydedilir; bu mekanlar yakınlık aramasına girmez
+    private void syncCoordinates() {
+        this.geoLat = parseCoordinate(latitude, 90.0);
+        this.geoLon = parseCoordinate(longitude, 180.0);
+        if (this.geoLat == null || this.geoLon == null) {
+            this.geoLat = null;
+            this.geoLon = null;
+        }
+    }
+    
+    private static Double parseCoordinate(String value, double limit) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim().replace(',', '.'));
+            return Double.isFinite(parsed) && Math.abs(parsed) <= limit ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 } 
\ No newline at end of file
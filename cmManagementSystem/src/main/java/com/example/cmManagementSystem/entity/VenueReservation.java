@@ -10,6 +10,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "VenueReservation.detail", attributeNodes = {
+        @NamedAttributeNode("venue"),
+        @NamedAttributeNode("club"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("approvedBy")
+})
 @Table(name = "venue_reservations")
 @Data
 @Builder
@@ -45,6 +51,10 @@ public class VenueReservation {
     @Column(name = "reservation_code")
     private String reservationCode;
     
+    // Tekrarlayan bir serinin parçasıysa serinin ortak kodu
+    @Column(name = "series_code")
+    private String seriesCode;
+    
     @Column
     private BigDecimal cost;
     
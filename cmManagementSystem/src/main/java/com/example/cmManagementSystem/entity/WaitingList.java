@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "waiting_lists")
+@Table(name = "waiting_lists", indexes = {
+        @Index(name = "idx_waiting_lists_event", columnList = "event_id"),
+        @Index(name = "idx_waiting_lists_status_deadline", columnList = "status, response_deadline")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,24 @@
+package com.example.cmManagementSystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Mekanın istenen zaman aralığında başka bir rezervasyonu olduğunda fırlatılır (HTTP 409)
+ */
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class ReservationConflictException extends IllegalStateException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final Long venueId;
+    
+    public ReservationConflictException(Long venueId) {
+        super("Seçilen zaman aralığı için mekan müsait değil, çakışan rezervasyonlar var.");
+        this.venueId = venueId;
+    }
+    
+    public Long getVenueId() {
+        return venueId;
+    }
+}
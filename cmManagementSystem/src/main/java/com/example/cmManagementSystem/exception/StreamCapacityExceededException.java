@@ -0,0 +1,17 @@
+package com.example.cmManagementSystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Canlı akış bağlantı sınırına ulaşıldığında fırlatılır (HTTP 503); istemci daha sonra yeniden denemelidir
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class StreamCapacityExceededException extends IllegalStateException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public StreamCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,21 +1,16 @@
 package com.example.cmManagementSystem.mapper;
 
 import com.example.cmManagementSystem.dto.EventDto;
+import com.example.cmManagementSystem.dto.EventProgramDto;
+import com.example.cmManagementSystem.dto.EventSpeakerDto;
 import com.example.cmManagementSystem.entity.Event;
-import com.example.cmManagementSystem.repository.EventParticipationRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.example.cmManagementSystem.entity.EventProgram;
+import com.example.cmManagementSystem.entity.EventSpeaker;
 import org.springframework.stereotype.Component;
 
 @Component
 public class EventMapper {
     
-    private final EventParticipationRepository eventParticipationRepository;
-    
-    @Autowired
-    public EventMapper(EventParticipationRepository eventParticipationRepository) {
-        this.eventParticipationRepository = eventParticipationRepository;
-    }
-    
     /**
      * Event entity'sini EventDto'ya dönüştürür
      *
@@ -27,8 +22,7 @@ public class EventMapper {
             return null;
         }
         
-        int participantCount = eventParticipationRepository.countParticipantsByEventId(event.getId());
-        
+        // Katılımcı sayısı Event üzerindeki sayaçtan okunur, ek sorgu çalıştırılmaz
         return EventDto.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -46,7 +40,68 @@ public class EventMapper {
                 .createdByName(event.getCreatedBy() != null ? event.getCreatedBy().getName() : null)
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
-                .participantCount(participantCount)
+                .participantCount(event.getParticipantCount())
+                .build();
+    }
+    
+    /**
+     * EventSpeaker entity'sini EventSpeakerDto'ya dönüştürür
+     *
+     * @param speaker EventSpeaker entity
+     * @return EventSpeakerDto
+     */
+    public EventSpeakerDto toSpeakerDto(EventSpeaker speaker) {
+        if (speaker == null) {
+            return null;
+        }
+        
+        return EventSpeakerDto.builder()
+                .id(speaker.getId())
+                .eventId(speaker.getEvent() != null ? speaker.getEvent().getId() : null)
+                .eventTitle(speaker.getEvent() != null ? speaker.getEvent().getTitle() : null)
+                .name(speaker.getName())
+                .title(speaker.getTitle())
+                .organization(speaker.getOrganization())
+                .bio(speaker.getBio())
+                .topic(speaker.getTopic())
+                .imageUrl(speaker.getImageUrl())
+                .email(speaker.getEmail())
+                .phone(speaker.getPhone())
+                .orderIndex(speaker.getOrderIndex())
+                .featured(speaker.isFeatured())
+                .createdAt(speaker.getCreatedAt())
+                .updatedAt(speaker.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * EventProgram entity'sini EventProgramDto'ya dönüştürür
+     *
+     * @param program EventProgram entity
+     * @return EventProgramDto
+     */
+    public EventProgramDto toProgramDto(EventProgram program) {
+        if (program == null) {
+            return null;
+        }
+        
+        EventSpeaker speaker = program.getSpeaker();
+        return EventProgramDto.builder()
+                .id(program.getId())
+                .eventId(program.getEvent() != null ? program.getEvent().getId() : null)
+                .eventTitle(program.getEvent() != null ? program.getEvent().getTitle() : null)
+                .title(program.getTitle())
+                .description(program.getDescription())
+                .startTime(program.getStartTime())
+                .endTime(program.getEndTime())
+                .location(program.getLocation())
+                .orderIndex(program.getOrderIndex())
+                .speakerName(speaker != null ? speaker.getName() : program.getSpeakerName())
+                .speakerId(speaker != null ? speaker.getId() : null)
+                .speaker(toSpeakerDto(speaker))
+                .type(program.getType())
+                .createdAt(program.getCreatedAt())
+                .updatedAt(program.getUpdatedAt())
                 .build();
     }
     
@@ -69,6 +69,31 @@ public class SponsorMapper {
         return dto;
     }
     
+    /**
+     * Sponsor entity'sini ilişkili kulüp, etkinlik ve kullanıcı bilgileri olmadan SponsorDto'ya dönüştürür.
+     * Lazy ilişkilere dokunmadığı için listelerde ek sorgu çalıştırmaz.
+     *
+     * @param sponsor Sponsor entity
+     * @return SponsorDto
+     */
+    public SponsorDto toSummaryDto(Sponsor sponsor) {
+        if (sponsor == null) {
+            return null;
+        }
+        
+        SponsorDto dto = new SponsorDto();
+        dto.setId(sponsor.getId());
+        dto.setName(sponsor.getName());
+        dto.setDescription(sponsor.getDescription());
+        dto.setLogoUrl(sponsor.getLogoUrl());
+        dto.setWebsiteUrl(sponsor.getWebsiteUrl());
+        dto.setType(sponsor.getType());
+        dto.setLevel(sponsor.getLevel());
+        dto.setStartDate(sponsor.getStartDate());
+        dto.setEndDate(sponsor.getEndDate());
+        return dto;
+    }
+    
     /**
      * SponsorDto'yu Sponsor entity'ye dönüştürür (yeni entity oluşturur)
      *
@@ -0,0 +1,63 @@
+package com.example.cmManagementSystem.mapper;
+
+import com.example.cmManagementSystem.dto.VenueReservationDto;
+import com.example.cmManagementSystem.entity.VenueReservation;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VenueReservationMapper {
+    
+    /**
+     * VenueReservation entity'sini VenueReservationDto'ya dönüştürür
+     *
+     * @param reservation VenueReservation entity
+     * @return VenueReservationDto
+     */
+    public VenueReservationDto toDto(VenueReservation reservation) {
+        if (reservation == null) {
+            return null;
+        }
+        
+        VenueReservationDto dto = VenueReservationDto.builder()
+                .id(reservation.getId())
+                .startTime(reservation.getStartTime())
+                .endTime(reservation.getEndTime())
+                .reservationDate(reservation.getReservationDate())
+                .reservationCode(reservation.getReservationCode())
+                .cost(reservation.getCost())
+                .attendeeCount(reservation.getAttendeeCount())
+                .specialRequirements(reservation.getSpecialRequirements())
+                .status(reservation.getStatus())
+                .approvalDate(reservation.getApprovalDate())
+                .rejectionReason(reservation.getRejectionReason())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+        
+        // İlişkili entity'lerin bilgilerini ayarla
+        dto.setVenueId(reservation.getVenue().getId());
+        dto.setVenueName(reservation.getVenue().getName());
+        
+        if (reservation.getEvent() != null) {
+            dto.setEventId(reservation.getEvent().getId());
+            dto.setEventTitle(reservation.getEvent().getTitle());
+        }
+        
+        if (reservation.getClub() != null) {
+            dto.setClubId(reservation.getClub().getId());
+            dto.setClubName(reservation.getClub().getName());
+        }
+        
+        if (reservation.getCreatedBy() != null) {
+            dto.setCreatedById(reservation.getCreatedBy().getId());
+            dto.setCreatedByName(reservation.getCreatedBy().getFullName());
+        }
+        
+        if (reservation.getApprovedBy() != null) {
+            dto.setApprovedById(reservation.getApprovedBy().getId());
+            dto.setApprovedByName(reservation.getApprovedBy().getFullName());
+        }
+        
+        return dto;
+    }
+}
@@ -105,9 +105,8 @@ public class WaitingListMapper {
             return;
         }
         
-        if (dto.getPosition() != null) {
-            waitingList.setPosition(dto.getPosition());
-        }
+        // Pozisyon burada kopyalanmaz: DTO'daki değer gösterim sırasıdır, sıralama anahtarı değildir.
+        // Sıra değişiklikleri WaitingListService.reorderWaitingList üzerinden yapılır.
         
         if (dto.getNotificationSent() != null) {
             waitingList.setNotificationSent(dto.getNotificationSent());
@@ -1,11 +1,17 @@
 package com.example.cmManagementSystem.repository;
 
+import com.example.cmManagementSystem.entity.Event;
 import com.example.cmManagementSystem.entity.EventParticipation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +28,55 @@ public interface EventParticipationRepository extends JpaRepository<EventPartici
     
     Optional<EventParticipation> findByEventIdAndUserId(Long eventId, Long userId);
     
+    List<EventParticipation> findByEventIdAndUserIdIn(Long eventId, Collection<Long> userIds);
+    
+    @Query("SELECT ep.user.id, ep.status FROM EventParticipation ep WHERE ep.event.id = :eventId AND ep.user.id IN :userIds")
+    List<Object[]> findStatusesByEventIdAndUserIds(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+    
+    // İptal edilmiş katılımları tek sorguda tekrar aktifleştirir (toplu kayıt)
+    @Modifying
+    @Query("UPDATE EventParticipation ep SET ep.status = 'REGISTERED', ep.registrationDate = :now, " +
+           "ep.cancellationDate = NULL, ep.cancellationReason = NULL, ep.updatedAt = :now " +
+           "WHERE ep.id IN :ids AND ep.status = 'CANCELLED'")
+    int reactivateCancelled(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Katılımı yalnızca verilen durumlardan birindeyse iptal eder; eşzamanlı iptallerden yalnızca biri 1 döner
+    @Modifying
+    @Query("UPDATE EventParticipation ep SET ep.status = 'CANCELLED', ep.cancellationDate = :now, ep.updatedAt = :now " +
+           "WHERE ep.id = :id AND ep.status IN :statuses")
+    int cancelIfInStatus(@Param("id") Long id,
+                         @Param("statuses") Collection<EventParticipation.ParticipationStatus> statuses,
+                         @Param("now") LocalDateTime now);
+    
     @Query("SELECT COUNT(ep) FROM EventParticipation ep WHERE ep.event.id = :eventId AND ep.status IN ('REGISTERED', 'ATTENDED')")
     int countParticipantsByEventId(@Param("eventId") Long eventId);
     
+    @Query("SELECT ep.user.id FROM EventParticipation ep WHERE ep.event.id = :eventId AND ep.status IN ('REGISTERED', 'ATTENDED')")
+    List<Long> findActiveUserIdsByEventId(@Param("eventId") Long eventId);
+    
+    boolean existsByEventIdAndUserIdAndStatusIn(Long eventId, Long userId, Collection<EventParticipation.ParticipationStatus> statuses);
+    
     @Query("SELECT ep FROM EventParticipation ep JOIN FETCH ep.event e JOIN FETCH ep.user u WHERE ep.user.id = :userId")
     List<EventParticipation> findByUserIdWithEventAndUser(@Param("userId") Long userId);
+    
+    // Kullanıcının katıldığı etkinlikler kulüp ve oluşturan kullanıcı ile tek sorguda getirilir;
+    // katılımcı sayısı etkinlik üzerindeki sayaçtan okunduğu için ek sorgu gerekmez
+    @Query(value = "SELECT e FROM EventParticipation ep JOIN ep.event e " +
+                   "LEFT JOIN FETCH e.club LEFT JOIN FETCH e.createdBy " +
+                   "WHERE ep.user.id = :userId AND ep.status IN :participationStatuses " +
+                   "AND (:status IS NULL OR e.status = :status) " +
+                   "AND (:from IS NULL OR e.startDate >= :from) " +
+                   "AND (:to IS NULL OR e.startDate < :to) " +
+                   "ORDER BY e.startDate ASC, e.id ASC",
+           countQuery = "SELECT COUNT(ep) FROM EventParticipation ep JOIN ep.event e " +
+                        "WHERE ep.user.id = :userId AND ep.status IN :participationStatuses " +
+                        "AND (:status IS NULL OR e.status = :status) " +
+                        "AND (:from IS NULL OR e.startDate >= :from) " +
+                        "AND (:to IS NULL OR e.startDate < :to)")
+    Page<Event> findEventsByParticipant(@Param("userId") Long userId,
+                                        @Param("participationStatuses") Collection<EventParticipation.ParticipationStatus> participationStatuses,
+                                        @Param("status") Event.EventStatus status,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        Pageable pageable);
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.cmManagementSystem.repository;
 
 import com.example.cmManagementSystem.entity.EventProgram;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,10 @@ public interface EventProgramRepository extends JpaRepository<EventProgram, Long
     
     List<EventProgram> findByEventIdOrderByOrderIndexAsc(Long eventId);
     
+    // Konuşmacı aynı sorguda getirilir
+    @EntityGraph("EventProgram.withSpeaker")
+    List<EventProgram> findWithSpeakerByEventIdOrderByOrderIndexAscStartTimeAsc(Long eventId);
+    
     List<EventProgram> findByEventIdAndType(Long eventId, EventProgram.ProgramType type);
     
     List<EventProgram> findBySpeakerId(Long speakerId);
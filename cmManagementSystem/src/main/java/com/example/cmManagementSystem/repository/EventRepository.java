@@ -1,24 +1,37 @@
 package com.example.cmManagementSystem.repository;
 
 import com.example.cmManagementSystem.entity.Event;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
     
+    // Listeleme sorgularında kulüp ve oluşturan kullanıcı aynı sorguda getirilir (DTO eşlemesinde lazy yükleme olmaz)
+    @Override
+    @EntityGraph(attributePaths = {"club", "createdBy"})
+    Page<Event> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"club", "createdBy"})
     Page<Event> findByStatus(Event.EventStatus status, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"club", "createdBy"})
     Page<Event> findByCategory(String category, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"club", "createdBy"})
     Page<Event> findByClubId(Long clubId, Pageable pageable);
     
     @Query("SELECT e FROM Event e WHERE e.startDate >= :now AND e.status = 'UPCOMING' ORDER BY e.startDate ASC")
@@ -30,9 +43,103 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE (LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND e.status = :status")
     Page<Event> searchEventsByKeyword(@Param("keyword") String keyword, @Param("status") Event.EventStatus status, Pageable pageable);
     
+    @Query("SELECT DISTINCT e.category FROM Event e WHERE e.category IS NOT NULL AND e.category <> '' ORDER BY e.category")
+    List<String> findDistinctCategories();
+    
+    // Kategori başına etkinlik sayısı [category, count]
+    @Query("SELECT e.category, COUNT(e) FROM Event e WHERE e.category IS NOT NULL AND e.category <> '' GROUP BY e.category ORDER BY e.category")
+    List<Object[]> countEventsByCategory();
+    
     @Query("SELECT e FROM Event e WHERE e.startDate BETWEEN :startDate AND :endDate")
     List<Event> findEventsBetweenDates(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
     @Query("SELECT e FROM Event e JOIN FETCH e.club c WHERE e.id = :id")
     Event findByIdWithClub(@Param("id") Long id);
-} 
\ No newline at end of file
+    
+    @EntityGraph(attributePaths = {"club", "createdBy"})
+    List<Event> findByIdIn(Collection<Long> ids);
+    
+    // Keyset sayfalama: (startDate, id) sırasında ilk sayfa ve verilen imleçten sonraki sayfa
+    @EntityGraph(attributePaths = {"club", "createdBy"})
+    @Query("SELECT e FROM Event e WHERE (:status IS NULL OR e.status = :status) AND (:category IS NULL OR e.category = :category) " +
+           "ORDER BY e.startDate ASC, e.id ASC")
+    List<Event> findFirstPage(@Param("status") Event.EventStatus status, @Param("category") String category, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"club", "createdBy"})
+    @Query("SELECT e FROM Event e WHERE (:status IS NULL OR e.status = :status) AND (:category IS NULL OR e.category = :category) " +
+           "AND (e.startDate > :startDate OR (e.startDate = :startDate AND e.id > :id)) ORDER BY e.startDate ASC, e.id ASC")
+    List<Event> findPageAfter(@Param("status") Event.EventStatus status, @Param("category") String category,
+                              @Param("startDate") LocalDateTime startDate, @Param("id") Long id, Pageable pageable);
+    
+    // Arama indeksinin yeniden oluşturulması için [id, title, description, category, clubName, status] satırları
+    @Query("SELECT e.id, e.title, e.description, e.category, c.name, e.status FROM Event e LEFT JOIN e.club c " +
+           "WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Kulüp adı değiştiğinde yalnızca o kulübün etkinlikleri yeniden indekslenir (satır biçimi yukarıdaki ile aynı)
+    @Query("SELECT e.id, e.title, e.description, e.category, c.name, e.status FROM Event e JOIN e.club c " +
+           "WHERE c.id = :clubId ORDER BY e.id")
+    List<Object[]> findSearchRowsByClubId(@Param("clubId") Long clubId);
+    
+    List<Event> findByBurstModeTrue();
+    
+    @Modifying
+    @Query("UPDATE Event e SET e.burstMode = :enabled WHERE e.id = :id")
+    int updateBurstMode(@Param("id") Long id, @Param("enabled") boolean enabled);
+    
+    // Kontenjan varsa sayacı atomik olarak bir artırır; 0 dönerse etkinlik doludur ya da yoğun kayıt modundadır
+    // (yoğun modda koltuklar yalnızca RegistrationSequencer defterinden dağıtılır, bkz. isBurstMode)
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + 1 WHERE e.id = :id " +
+           "AND COALESCE(e.burstMode, false) = false " +
+           "AND (COALESCE(e.maxParticipants, e.capacity) IS NULL OR e.participantCount < COALESCE(e.maxParticipants, e.capacity))")
+    int tryReserveSeat(@Param("id") Long id);
+    
+    // Persistence context'i atlayarak yoğun kayıt bayrağının güncel (commit edilmiş) değerini okur
+    @Query("SELECT COALESCE(e.burstMode, false) FROM Event e WHERE e.id = :id")
+    boolean isBurstMode(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount - 1 WHERE e.id = :id AND e.participantCount > 0")
+    int releaseSeat(@Param("id") Long id);
+    
+    @EntityGraph(Event.DETAIL_GRAPH)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findDetailById(@Param("id") Long id);
+    
+    // Etkinlik satırını kilitleyerek okur; kilit süresince tryReserveSeat çağrıları bekler,
+    // böylece toplu kayıtta boş koltuk sayısı tek seferde doğru hesaplanabilir
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+    
+    // Toplu kayıt ve bekleme listesi terfisi için; yoğun kayıt modundaki etkinlikte 0 döner
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + :count WHERE e.id = :id " +
+           "AND COALESCE(e.burstMode, false) = false")
+    int addParticipants(@Param("id") Long id, @Param("count") int count);
+    
+    // Tüm etkinlik kimlikleri (tek seferlik veri doldurma görevleri için)
+    @Query("SELECT e.id FROM Event e ORDER BY e.id")
+    List<Long> findAllIds();
+    
+    // Etkinliğin sayacını katılım tablosundan yeniden hesaplar; çağıran satırı önce findByIdForUpdate ile kilitlemeli
+    @Modifying
+    @Query("UPDATE Event e SET e.participantCount = (SELECT COUNT(ep) FROM EventParticipation ep " +
+           "WHERE ep.event.id = e.id AND ep.status IN ('REGISTERED', 'ATTENDED')) WHERE e.id = :id")
+    int recalculateParticipantCount(@Param("id") Long id);
+    
+    // Bekleme listesi için count adet ardışık sıra numarası ayırır ve son numarayı döner
+    // (ayrılan aralık: dönen değer - count + 1 ... dönen değer). Satır kilidi eşzamanlı ayırmaları sıralar.
+    @Query(value = "UPDATE events SET waitlist_sequence = waitlist_sequence + :count WHERE id = :id " +
+                   "RETURNING waitlist_sequence", nativeQuery = true)
+    int allocateWaitlistPositions(@Param("id") Long id, @Param("count") int count);
+    
+    // Sıra sayaçlarını mevcut bekleme listesi kayıtlarının en büyük pozisyonuna yükseltir
+    // (sütun ilk eklendiğinde ve sayaç geride kaldığında)
+    @Modifying
+    @Query(value = "UPDATE events e SET waitlist_sequence = w.max_position " +
+                   "FROM (SELECT event_id, MAX(position) AS max_position FROM waiting_lists GROUP BY event_id) w " +
+                   "WHERE w.event_id = e.id AND e.waitlist_sequence < w.max_position", nativeQuery = true)
+    int syncWaitlistSequences();
+}
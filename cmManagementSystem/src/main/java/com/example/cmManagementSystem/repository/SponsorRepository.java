@@ -26,6 +26,13 @@ public interface SponsorRepository extends JpaRepository<Sponsor, Long> {
     
     Page<Sponsor> findByTypeAndLevel(Sponsor.SponsorType type, Sponsor.SponsorLevel level, Pageable pageable);
     
+    // Keyset sayfalama: id sırasında ilk sayfa ve verilen id'den sonraki sayfa
+    @Query("SELECT s FROM Sponsor s ORDER BY s.id ASC")
+    List<Sponsor> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT s FROM Sponsor s WHERE s.id > ?1 ORDER BY s.id ASC")
+    List<Sponsor> findPageAfter(Long id, Pageable pageable);
+    
     @Query("SELECT DISTINCT s FROM Sponsor s JOIN s.clubs c WHERE c.id IN ?1")
     List<Sponsor> findByClubIds(List<Long> clubIds);
 } 
\ No newline at end of file
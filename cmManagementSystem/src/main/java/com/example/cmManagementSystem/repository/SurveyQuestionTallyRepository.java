@@ -0,0 +1,29 @@
+package com.example.cmManagementSystem.repository;
+
+import com.example.cmManagementSystem.entity.SurveyQuestionTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SurveyQuestionTallyRepository extends JpaRepository<SurveyQuestionTally, Long> {
+    
+    List<SurveyQuestionTally> findBySurveyId(Long surveyId);
+    
+    @Modifying
+    @Query("DELETE FROM SurveyQuestionTally t WHERE t.surveyId = ?1")
+    int deleteBySurveyId(Long surveyId);
+    
+    @Modifying
+    @Query("DELETE FROM SurveyQuestionTally t WHERE t.questionId = ?1")
+    int deleteByQuestionId(Long questionId);
+    
+    // Yanıtı olup özeti olmayan sorulara ait anketler (özet tabloları eklenmeden önceki veriler)
+    @Query(value = "SELECT DISTINCT r.survey_id FROM survey_responses r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM survey_question_tallies t WHERE t.question_id = r.question_id)",
+            nativeQuery = true)
+    List<Long> findSurveyIdsWithMissingTallies();
+}
@@ -4,6 +4,7 @@ import com.example.cmManagementSystem.entity.Survey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -21,6 +22,14 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
     
     Page<Survey> findByIsPublished(Boolean isPublished, Pageable pageable);
     
+    // Yanıt sayacı satır içinde artırılır; eşzamanlı gönderimler birbirinin artışını ezmez
+    @Modifying
+    @Query("UPDATE Survey s SET s.responseCount = COALESCE(s.responseCount, 0) + ?2 WHERE s.id = ?1")
+    int incrementResponseCount(Long id, int delta);
+    
+    @Query("SELECT s.id FROM Survey s ORDER BY s.id ASC")
+    List<Long> findAllIds();
+    
     @Query("SELECT s FROM Survey s WHERE s.startDate <= ?1 AND (s.endDate IS NULL OR s.endDate >= ?1)")
     List<Survey> findActiveSurveys(LocalDateTime now);
     
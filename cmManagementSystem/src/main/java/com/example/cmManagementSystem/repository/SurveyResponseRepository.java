@@ -1,11 +1,18 @@
 package com.example.cmManagementSystem.repository;
 
+import com.example.cmManagementSystem.entity.SurveyQuestion;
 import com.example.cmManagementSystem.entity.SurveyResponse;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface SurveyResponseRepository extends JpaRepository<SurveyResponse, Long> {
@@ -26,6 +33,28 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
     @Query("SELECT COUNT(DISTINCT sr.anonymousUserToken) FROM SurveyResponse sr WHERE sr.survey.id = ?1 AND sr.anonymousUserToken IS NOT NULL")
     Integer countUniqueAnonymousRespondentsBySurveyId(Long surveyId);
     
+    // Analiz için yalnızca metin yanıtları okunur: [soru ID, yanıt metni]
+    @Query("SELECT sr.question.id, sr.responseText FROM SurveyResponse sr " +
+           "WHERE sr.survey.id = ?1 AND sr.question.questionType NOT IN ?2 " +
+           "AND sr.responseText IS NOT NULL AND sr.responseText <> '' ORDER BY sr.id ASC")
+    List<Object[]> findTextResponsesBySurveyId(Long surveyId, Collection<SurveyQuestion.QuestionType> excludedTypes);
+    
+    /**
+     * Dışa aktarım için anketin yanıtlarını veritabanı imleciyle satır satır okur.
+     * Entity yüklenmez, yalnızca sütunlar okunur; bellek kullanımı yanıt sayısından bağımsızdır.
+     * Açık bir işlem içinde çağrılmalı ve akış kapatılmalıdır.
+     *
+     * @param surveyId Anket ID
+     * @return [yanıt ID, soru ID, soru metni, kullanıcı ID, kullanıcı adı, anonim token,
+     *          yanıt metni, yanıt değeri, seçilen seçenekler, oluşturulma zamanı] satırları
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT sr.id, q.id, q.questionText, u.id, u.name, sr.anonymousUserToken, " +
+           "sr.responseText, sr.responseValue, sr.selectedOptions, sr.createdAt " +
+           "FROM SurveyResponse sr JOIN sr.question q LEFT JOIN sr.user u " +
+           "WHERE sr.survey.id = ?1 ORDER BY sr.id ASC")
+    Stream<Object[]> streamExportRowsBySurveyId(Long surveyId);
+    
     @Query("SELECT AVG(sr.responseValue) FROM SurveyResponse sr WHERE sr.question.id = ?1")
     Double getAverageRatingForQuestion(Long questionId);
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.cmManagementSystem.repository;
+
+import com.example.cmManagementSystem.entity.SurveyTallyBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SurveyTallyBucketRepository extends JpaRepository<SurveyTallyBucket, Long> {
+    
+    List<SurveyTallyBucket> findBySurveyId(Long surveyId);
+    
+    @Modifying
+    @Query("DELETE FROM SurveyTallyBucket b WHERE b.surveyId = ?1")
+    int deleteBySurveyId(Long surveyId);
+    
+    @Modifying
+    @Query("DELETE FROM SurveyTallyBucket b WHERE b.questionId = ?1")
+    int deleteByQuestionId(Long questionId);
+}
@@ -3,8 +3,10 @@ package com.example.cmManagementSystem.repository;
 import com.example.cmManagementSystem.entity.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -26,6 +28,19 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     
     Page<Transaction> findByClubIdAndStatus(Long clubId, Transaction.TransactionStatus status, Pageable pageable);
     
+    // Keyset sayfalama: en yeni işlemler önce, (transactionDate, id) sırasında
+    @EntityGraph(attributePaths = {"club", "budget", "event", "createdBy", "approvedBy"})
+    @Query("SELECT t FROM Transaction t WHERE (:clubId IS NULL OR t.club.id = :clubId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findFirstPage(@Param("clubId") Long clubId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"club", "budget", "event", "createdBy", "approvedBy"})
+    @Query("SELECT t FROM Transaction t WHERE (:clubId IS NULL OR t.club.id = :clubId) " +
+           "AND (t.transactionDate < :transactionDate OR (t.transactionDate = :transactionDate AND t.id < :id)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageAfter(@Param("clubId") Long clubId, @Param("transactionDate") LocalDateTime transactionDate,
+                                    @Param("id") Long id, Pageable pageable);
+    
     List<Transaction> findByTransactionDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.club.id = ?1 AND t.type = ?2")
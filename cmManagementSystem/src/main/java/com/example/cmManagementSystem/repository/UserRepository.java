@@ -4,6 +4,8 @@ import com.example.cmManagementSystem.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,6 +27,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByStudentId(String studentId);
     
+    /**
+     * Öğrenci numaralarına göre kullanıcıları tek sorguda getirir
+     * 
+     * @param studentIds Öğrenci numaraları
+     * @return Bulunan kullanıcılar (bulunamayan numaralar için kayıt dönmez)
+     */
+    List<User> findByStudentIdIn(Collection<String> studentIds);
+    
     /**
      * E-posta adresi varlığını kontrol eder
      * 
@@ -4,9 +4,12 @@ import com.example.cmManagementSystem.entity.Venue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,6 +25,38 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
     
     Page<Venue> findByCapacityBetween(Integer minCapacity, Integer maxCapacity, Pageable pageable);
     
-    @Query("SELECT v FROM Venue v WHERE v.latitude BETWEEN ?1 AND ?2 AND v.longitude BETWEEN ?3 AND ?4")
-    List<Venue> findByGeoArea(String minLat, String maxLat, String minLong, String maxLong);
+    // Müsait mekan araması için adaylar; oluşturan kullanıcı aynı sorguda getirilir
+    @Query("SELECT v FROM Venue v LEFT JOIN FETCH v.createdBy " +
+           "WHERE (:minCapacity IS NULL OR v.capacity >= :minCapacity) " +
+           "AND (:isUniversityVenue IS NULL OR v.isUniversityVenue = :isUniversityVenue) " +
+           "AND (:city IS NULL OR LOWER(v.city) = LOWER(:city))")
+    List<Venue> findSearchCandidates(@Param("minCapacity") Integer minCapacity,
+                                     @Param("isUniversityVenue") Boolean isUniversityVenue,
+                                     @Param("city") String city);
+    
+    // Sayısal koordinatlarla dikdörtgen bölge sorgusu (idx_venues_geo)
+    @Query("SELECT v FROM Venue v WHERE v.geoLat BETWEEN ?1 AND ?2 AND v.geoLon BETWEEN ?3 AND ?4")
+    List<Venue> findByGeoArea(Double minLat, Double maxLat, Double minLong, Double maxLong);
+    
+    @Query("SELECT v FROM Venue v LEFT JOIN FETCH v.createdBy WHERE v.id IN :ids")
+    List<Venue> findWithCreatedByByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Doluluk tablosu satırları: [ID, ad]
+    @Query("SELECT v.id, v.name FROM Venue v ORDER BY v.name ASC, v.id ASC")
+    List<Object[]> findIdAndNames();
+    
+    // Yakınlık indeksi için koordinatı olan mekanlar: [ID, enlem, boylam]
+    @Query("SELECT v.id, v.geoLat, v.geoLon FROM Venue v WHERE v.id > ?1 AND v.geoLat IS NOT NULL ORDER BY v.id ASC")
+    List<Object[]> findCoordinatesAfter(Long afterId, Pageable pageable);
+    
+    // Sayısal koordinat sütunları eklenmeden önce kaydedilmiş mekanlar metin alanlarından doldurulur.
+    // CASE, sayı biçiminde olmayan metinlerin CAST'e hiç ulaşmamasını garanti eder.
+    @Modifying
+    @Query(value = "UPDATE venues SET geo_lat = c.lat, geo_lon = c.lon FROM (" +
+            "SELECT id, " +
+            "CASE WHEN TRIM(latitude) ~ '^-?[0-9]+(\\.[0-9]+)?$' THEN CAST(TRIM(latitude) AS double precision) END AS lat, " +
+            "CASE WHEN TRIM(longitude) ~ '^-?[0-9]+(\\.[0-9]+)?$' THEN CAST(TRIM(longitude) AS double precision) END AS lon " +
+            "FROM venues WHERE geo_lat IS NULL) c " +
+            "WHERE venues.id = c.id AND ABS(c.lat) <= 90 AND ABS(c.lon) <= 180", nativeQuery = true)
+    int backfillCoordinates();
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.example.cmManagementSystem.repository;
 
 import com.example.cmManagementSystem.entity.VenueReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,19 +18,33 @@ public interface VenueReservationRepository extends JpaRepository<VenueReservati
     
     List<VenueReservation> findByEventId(Long eventId);
     
+    // Mekan, kulüp ve kullanıcı bilgileri aynı sorguda getirilir
+    @EntityGraph("VenueReservation.detail")
+    List<VenueReservation> findWithDetailsByEventIdOrderByStartTimeAsc(Long eventId);
+    
     List<VenueReservation> findByClubId(Long clubId);
     
     List<VenueReservation> findByStatus(VenueReservation.ReservationStatus status);
     
+    // Aralıklar yarı açıktır [başlangıç, bitiş): biri bittiği anda başlayan rezervasyon çakışma sayılmaz
     @Query("SELECT vr FROM VenueReservation vr WHERE vr.venue.id = ?1 AND " +
-           "((vr.startTime <= ?3 AND vr.endTime >= ?2) OR " +
-           "(vr.startTime >= ?2 AND vr.startTime <= ?3)) AND " +
+           "vr.startTime < ?3 AND vr.endTime > ?2 AND " +
            "vr.status NOT IN ('REJECTED', 'CANCELLED')")
     List<VenueReservation> findOverlappingReservations(Long venueId, LocalDateTime startTime, LocalDateTime endTime);
     
+    // Silme koruması için veritabanındaki bekleyen/onaylı gelecek rezervasyonlar sayılır
+    @Query("SELECT COUNT(vr) FROM VenueReservation vr WHERE vr.venue.id = ?1 AND " +
+           "vr.endTime > ?2 AND vr.status IN ('PENDING', 'APPROVED')")
+    long countActiveUpcoming(Long venueId, LocalDateTime now);
+    
     @Query("SELECT vr FROM VenueReservation vr WHERE vr.venue.id = ?1 AND " +
            "vr.startTime >= ?2 AND vr.endTime <= ?3")
     List<VenueReservation> findReservationsInPeriod(Long venueId, LocalDateTime startTime, LocalDateTime endTime);
     
+    // Müsaitlik indeksi için aktif rezervasyon aralıkları: [ID, mekan ID, başlangıç, bitiş, durum]
+    @Query("SELECT vr.id, vr.venue.id, vr.startTime, vr.endTime, vr.status FROM VenueReservation vr " +
+           "WHERE vr.id > ?1 AND vr.status NOT IN ('REJECTED', 'CANCELLED') ORDER BY vr.id ASC")
+    List<Object[]> findActiveIntervalsAfter(Long afterId, Pageable pageable);
+    
     Optional<VenueReservation> findByReservationCode(String reservationCode);
 } 
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.example.cmManagementSystem.repository;
 
 import com.example.cmManagementSystem.entity.WaitingList;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,13 +24,73 @@ public interface WaitingListRepository extends JpaRepository<WaitingList, Long>
     
     Optional<WaitingList> findByEventIdAndUserId(Long eventId, Long userId);
     
-    @Query("SELECT wl FROM WaitingList wl WHERE wl.event.id = ?1 ORDER BY wl.position ASC")
+    List<WaitingList> findByEventIdAndUserIdIn(Long eventId, Collection<Long> userIds);
+    
+    @Query("SELECT wl FROM WaitingList wl WHERE wl.event.id = ?1 ORDER BY wl.position ASC, wl.id ASC")
     List<WaitingList> findByEventIdOrderByPositionAsc(Long eventId);
     
+    // Yeniden sıralama için yalnızca [ID, pozisyon] okunur; entity'ler yüklenmez
+    @Query("SELECT wl.id, wl.position FROM WaitingList wl WHERE wl.event.id = ?1 ORDER BY wl.position ASC, wl.id ASC")
+    List<Object[]> findOrderKeysByEventId(Long eventId);
+    
+    /**
+     * Verilen kayıtların etkinlik içindeki gösterim sırasını (1, 2, 3, ...) hesaplar.
+     * Kalıcı pozisyon değerleri boşluklu olabilir; sıra numarası okuma anında ROW_NUMBER() ile üretilir.
+     *
+     * @param ids Bekleme listesi kayıt ID'leri
+     * @return [kayıt ID, sıra numarası] satırları
+     */
+    @Query(value = "SELECT r.id, r.rn FROM (" +
+            "SELECT w.id, ROW_NUMBER() OVER (PARTITION BY w.event_id ORDER BY w.position, w.id) AS rn " +
+            "FROM waiting_lists w " +
+            "WHERE w.event_id IN (SELECT event_id FROM waiting_lists WHERE id IN (:ids))) r " +
+            "WHERE r.id IN (:ids)", nativeQuery = true)
+    List<Object[]> findDisplayPositions(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT COUNT(wl) FROM WaitingList wl WHERE wl.event.id = ?1 AND wl.status = ?2")
     Integer countByEventIdAndStatus(Long eventId, WaitingList.WaitingStatus status);
     
+    @Query("SELECT COUNT(wl) FROM WaitingList wl WHERE wl.event.id = ?1 AND wl.status IN ('WAITING', 'NOTIFIED')")
+    int countActiveByEventId(Long eventId);
+    
+    @Query("SELECT wl.user.id FROM WaitingList wl WHERE wl.event.id = ?1 AND wl.status IN ('WAITING', 'NOTIFIED')")
+    List<Long> findWaitingUserIdsByEventId(Long eventId);
+    
     List<WaitingList> findByNotificationSentAndStatus(Boolean notificationSent, WaitingList.WaitingStatus status);
     
+    // Verilen kullanıcıların etkinlikteki bekleme durumu: [kullanıcı ID, durum, sıra numarası, yanıt son tarihi]
+    @Query(value = "SELECT r.user_id, r.status, r.rn, r.response_deadline FROM (" +
+            "SELECT w.user_id, w.status, w.response_deadline, ROW_NUMBER() OVER (ORDER BY w.position, w.id) AS rn " +
+            "FROM waiting_lists w WHERE w.event_id = :eventId) r " +
+            "WHERE r.user_id IN (:userIds)", nativeQuery = true)
+    List<Object[]> findStatusesByEventIdAndUserIds(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+    
+    // Otomatik kayıt adayları sırayla: [kayıt ID, kullanıcı ID, iptal edilmiş katılım ID'si veya null].
+    // Etkinliğe zaten aktif katılımı olan kişiler sorgu içinde elenir. ACCEPTED kayıtlar yalnızca hiç katılımı
+    // yoksa aday olur: kabul edildikten sonra katılımını iptal eden kişi yeniden kaydedilmez.
+    @Query("SELECT wl.id, wl.user.id, ep.id FROM WaitingList wl " +
+           "LEFT JOIN EventParticipation ep ON ep.event = wl.event AND ep.user = wl.user " +
+           "WHERE wl.event.id = :eventId " +
+           "AND ((wl.status = 'WAITING' AND (ep.id IS NULL OR ep.status = 'CANCELLED')) " +
+           "OR (wl.status = 'ACCEPTED' AND ep.id IS NULL)) " +
+           "ORDER BY wl.position ASC, wl.id ASC")
+    List<Object[]> findPromotionCandidates(@Param("eventId") Long eventId, Pageable pageable);
+    
+    // Kaydı yalnızca hâlâ beklemedeyse kabul eder; aynı kayıt için eşzamanlı/tekrarlanan terfilerden biri 1 alır
+    @Modifying
+    @Query("UPDATE WaitingList wl SET wl.status = 'ACCEPTED', wl.responseDate = :now, wl.updatedAt = :now " +
+           "WHERE wl.id = :id AND wl.status IN ('WAITING', 'NOTIFIED')")
+    int acceptIfWaiting(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE WaitingList wl SET wl.status = 'ACCEPTED', wl.responseDate = :now, wl.updatedAt = :now " +
+           "WHERE wl.id IN :ids")
+    int markAccepted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Yanıt bekleyen tekliflerin son tarihleri: [ID, etkinlik ID, son tarih] (status, response_deadline indeksi)
+    @Query("SELECT wl.id, wl.event.id, wl.responseDeadline FROM WaitingList wl " +
+           "WHERE wl.status = 'NOTIFIED' AND wl.responseDeadline <= ?1")
+    List<Object[]> findOfferDeadlinesUntil(LocalDateTime until);
+    
     List<WaitingList> findByStatusAndResponseDeadlineBefore(WaitingList.WaitingStatus status, LocalDateTime deadline);
 } 
\ No newline at end of file
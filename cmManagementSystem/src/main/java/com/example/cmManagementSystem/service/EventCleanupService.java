@@ -0,0 +1,28 @@
+package com.example.cmManagementSystem.service;
+
+import java.util.Collection;
+
+/**
+ * Etkinlik silme ve arşivleme işlemleri. Alt tablolar satır satır değil,
+ * etkinlik ID'lerine göre küme bazlı (DELETE ... WHERE event_id IN ...) temizlenir.
+ */
+public interface EventCleanupService {
+
+    /**
+     * Etkinlikleri ve onlara bağlı tüm alt kayıtları toplu olarak siler.
+     * Çağıranın işlemi (transaction) içinde çalışır.
+     *
+     * @param eventIds Silinecek etkinlik ID'leri
+     */
+    void deleteEvents(Collection<Long> eventIds);
+
+    /**
+     * Saklama süresi dolmuş tamamlanmış etkinlikleri ve katılımlarını arşiv tablolarına taşır;
+     * satırın tamamı ayrıca row_data sütununda JSON olarak saklanır.
+     * Diğer alt kayıtlar (konuşmacılar, program, ikram, bekleme listesi, sponsor bağlantıları)
+     * event_records_archive tablosuna JSON olarak kopyalanır. Her parça (chunk) ayrı bir işlemde taşınır.
+     *
+     * @return Arşivlenen etkinlik sayısı
+     */
+    int archiveCompletedEvents();
+}
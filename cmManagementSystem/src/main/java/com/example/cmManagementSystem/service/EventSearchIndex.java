@@ -0,0 +1,55 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Etkinlik anahtar kelime araması için uygulama içi ters indeks (inverted index).
+ * Başlık, açıklama, kategori ve kulüp adı Türkçe kurallarına göre parçalanarak indekslenir.
+ * <p>
+ * İndeks her uygulama örneğinin belleğinde ayrı tutulur. Başka bir uygulama örneğinde yapılan
+ * etkinlik/kulüp değişiklikleri bu örneğin indeksine yansımaz; yansıması için uygulamanın yeniden
+ * başlatılması veya {@link #rebuild()} çağrılması gerekir. Birden fazla örnekle çalışılırken
+ * yazma isteklerinin tek örneğe yönlendirilmesi ya da indeksin düzenli olarak yeniden oluşturulması gerekir.
+ */
+public interface EventSearchIndex {
+
+    /**
+     * Etkinliği indekse ekler veya indeksteki kaydını günceller
+     *
+     * @param event Etkinlik
+     */
+    void index(Event event);
+
+    /**
+     * Etkinliği indeksten çıkarır
+     *
+     * @param eventId Etkinlik ID
+     */
+    void remove(Long eventId);
+
+    /**
+     * Kulübün tüm etkinliklerini güncel kulüp adıyla yeniden indeksler (kulüp adı değiştiğinde çağrılır)
+     *
+     * @param clubId Kulüp ID
+     */
+    void reindexClub(Long clubId);
+
+    /**
+     * İlgililik puanına göre sıralanmış etkinlik ID'lerini sayfalı olarak getirir
+     *
+     * @param keyword Arama ifadesi
+     * @param status Etkinlik durumu filtresi (null ise tüm durumlar)
+     * @param pageable Sayfalandırma bilgileri
+     * @return Etkinlik ID sayfası
+     */
+    Page<Long> search(String keyword, Event.EventStatus status, Pageable pageable);
+
+    /**
+     * İndeksi veritabanındaki etkinliklerden yeniden oluşturur
+     *
+     * @return İndekslenen etkinlik sayısı
+     */
+    int rebuild();
+}
@@ -1,6 +1,9 @@
 package com.example.cmManagementSystem.service;
 
+import com.example.cmManagementSystem.dto.BulkRegistrationResultDto;
 import com.example.cmManagementSystem.dto.CateringDto;
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.EventDetailDto;
 import com.example.cmManagementSystem.dto.EventDto;
 import com.example.cmManagementSystem.dto.EventProgramDto;
 import com.example.cmManagementSystem.dto.EventSpeakerDto;
@@ -8,10 +11,13 @@ import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
 import com.example.cmManagementSystem.dto.WaitingListDto;
 import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventParticipation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface EventService {
     
@@ -22,6 +28,18 @@ public interface EventService {
      * @return Etkinlik sayfası
      */
     Page<EventDto> findAll(Pageable pageable);
+
+    /**
+     * Etkinlikleri (startDate, id) sırasında imleç tabanlı sayfalama ile getirir
+     *
+     * @param status Etkinlik durumu filtresi (opsiyonel)
+     * @param category Kategori filtresi (opsiyonel)
+     * @param after Önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return İmleç tabanlı etkinlik sayfası
+     */
+    CursorPage<EventDto> findAllByCursor(Event.EventStatus status, String category, String after, int size);
+    
     
     /**
      * ID'ye göre etkinlik getirir
@@ -31,6 +49,15 @@ public interface EventService {
      */
     EventDto findById(Long id);
     
+    /**
+     * Etkinlik detay sayfası için etkinlik, kulüp, konuşmacılar, program, sponsorlar,
+     * katılımcı ve bekleme listesi sayısını sınırlı sayıda sorgu ile getirir
+     *
+     * @param id Etkinlik ID
+     * @return Etkinlik detayı
+     */
+    EventDetailDto getEventDetail(Long id);
+    
     /**
      * Duruma göre etkinlikleri getirir
      *
@@ -58,6 +85,24 @@ public interface EventService {
      */
     Page<EventDto> findByClubId(Long clubId, Pageable pageable);
     
+    /**
+     * Başlık, açıklama, kategori ve kulüp adında anahtar kelime araması yapar.
+     * Sonuçlar ilgililik puanına göre sıralanır.
+     *
+     * @param keyword Arama ifadesi
+     * @param status Etkinlik durumu filtresi (opsiyonel)
+     * @param pageable Sayfalandırma bilgileri
+     * @return Etkinlik sayfası
+     */
+    Page<EventDto> searchEvents(String keyword, Event.EventStatus status, Pageable pageable);
+    
+    /**
+     * Arama indeksini veritabanından yeniden oluşturur
+     *
+     * @return İndekslenen etkinlik sayısı
+     */
+    int rebuildSearchIndex();
+    
     /**
      * Yeni etkinlik oluşturur
      *
@@ -92,12 +137,23 @@ public interface EventService {
     EventDto updateEventStatus(Long id, Event.EventStatus status);
     
     /**
-     * Etkinliğe katılım kaydı oluşturur
+     * Etkinliğe katılım kaydı oluşturur. Kontenjan doluysa kullanıcı bekleme listesine alınır.
      *
      * @param eventId Etkinlik ID
      * @param userId Kullanıcı ID
+     * @return Kayıt sonucu (REGISTERED veya WAITLISTED)
      */
-    void registerForEvent(Long eventId, Long userId);
+    EventParticipation.ParticipationStatus registerForEvent(Long eventId, Long userId);
+    
+    /**
+     * Öğrenci numarası listesini tek seferde etkinliğe kaydeder. Kontenjanı aşan öğrenciler
+     * aynı işlemde bekleme listesine alınır.
+     *
+     * @param eventId Etkinlik ID
+     * @param studentIds Öğrenci numaraları
+     * @return Öğrenci bazında kayıt raporu
+     */
+    BulkRegistrationResultDto registerBulk(Long eventId, List<String> studentIds);
     
     /**
      * Etkinlik katılımını iptal eder
@@ -107,6 +163,14 @@ public interface EventService {
      */
     void cancelRegistration(Long eventId, Long userId);
     
+    /**
+     * Etkinlik için yoğun kayıt (burst) modunu açar veya kapatır
+     *
+     * @param eventId Etkinlik ID
+     * @param enabled Açık/kapalı
+     */
+    void setBurstMode(Long eventId, boolean enabled);
+    
     /**
      * Tüm etkinlik kategorilerini getirir
      *
@@ -115,12 +179,24 @@ public interface EventService {
     List<String> findAllCategories();
     
     /**
-     * Kullanıcının katıldığı etkinlikleri getirir
+     * Kategori başına etkinlik sayılarını getirir
+     *
+     * @return Kategori - etkinlik sayısı eşlemesi
+     */
+    Map<String, Long> findCategoryCounts();
+    
+    /**
+     * Kullanıcının kayıtlı olduğu veya katıldığı etkinlikleri başlangıç tarihine göre sıralı getirir
      *
      * @param userId Kullanıcı ID
-     * @return Etkinlik listesi
+     * @param status Etkinlik durumu filtresi (opsiyonel)
+     * @param from Bu tarihten sonra başlayan etkinlikler (opsiyonel)
+     * @param to Bu tarihten önce başlayan etkinlikler (opsiyonel)
+     * @param pageable Sayfalandırma bilgileri (sayfasız ise tüm etkinlikler döner)
+     * @return Etkinlik sayfası
      */
-    List<EventDto> findEventsByParticipant(Long userId);
+    Page<EventDto> findEventsByParticipant(Long userId, Event.EventStatus status,
+                                           LocalDateTime from, LocalDateTime to, Pageable pageable);
     
     /**
      * Etkinliğe ait konuşmacıları getirir
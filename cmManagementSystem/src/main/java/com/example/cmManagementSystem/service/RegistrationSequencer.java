@@ -0,0 +1,51 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.EventParticipation;
+
+/**
+ * Yoğun kayıt (burst) modundaki etkinlikler için kayıt sıralayıcısı.
+ * Kayıtlar bellekteki koltuk defterinden anında yanıtlanır, veritabanına
+ * tek bir yazıcı iş parçacığı tarafından toplu (batch) olarak yazılır.
+ */
+public interface RegistrationSequencer {
+
+    /**
+     * Etkinliğin yoğun kayıt modunda olup olmadığını kontrol eder
+     *
+     * @param eventId Etkinlik ID
+     * @return Yoğun kayıt modu açık mı
+     */
+    boolean isActive(Long eventId);
+
+    /**
+     * Kaydı bellekteki koltuk defterine göre kabul eder ve yazma kuyruğuna ekler
+     *
+     * @param eventId Etkinlik ID
+     * @param userId Kullanıcı ID
+     * @return Kayıt sonucu (REGISTERED veya WAITLISTED), etkinlik artık yoğun modda değilse null
+     */
+    EventParticipation.ParticipationStatus register(Long eventId, Long userId);
+
+    /**
+     * Kullanıcının koltuğunu bellekteki defterden serbest bırakır
+     *
+     * @param eventId Etkinlik ID
+     * @param userId Kullanıcı ID
+     */
+    void release(Long eventId, Long userId);
+
+    /**
+     * Etkinliğin bekleyen kayıtlarını hemen veritabanına yazar
+     *
+     * @param eventId Etkinlik ID
+     */
+    void flush(Long eventId);
+
+    /**
+     * Etkinlik için yoğun kayıt modunu açar veya kapatır
+     *
+     * @param eventId Etkinlik ID
+     * @param enabled Açık/kapalı
+     */
+    void setBurstMode(Long eventId, boolean enabled);
+}
@@ -1,5 +1,6 @@
 package com.example.cmManagementSystem.service;
 
+import com.example.cmManagementSystem.dto.CursorPage;
 import com.example.cmManagementSystem.dto.SponsorDto;
 import com.example.cmManagementSystem.entity.Sponsor;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,17 @@ public interface SponsorService {
      * @return Sponsor sayfası
      */
     Page<SponsorDto> findAll(Pageable pageable);
+
+    /**
+     * Sponsorları id sırasında imleç tabanlı sayfalama ile getirir.
+     * Kayıtlar özet olarak döner (kulüp, etkinlik ve iletişim bilgileri için findById kullanılır).
+     * 
+     * @param after Önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return İmleç tabanlı sponsor sayfası
+     */
+    CursorPage<SponsorDto> findAllByCursor(String after, int size);
+    
     
     /**
      * Tüm sponsorları liste olarak getirir (SponsorController için)
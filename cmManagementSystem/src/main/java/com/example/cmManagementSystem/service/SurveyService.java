@@ -3,7 +3,10 @@ package com.example.cmManagementSystem.service;
 import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.dto.SurveyQuestionDto;
 import com.example.cmManagementSystem.dto.SurveyResponseDto;
+import com.example.cmManagementSystem.dto.SurveySubmissionDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -72,11 +75,21 @@ public interface SurveyService {
      */
     SurveyResponseDto submitResponse(Long surveyId, SurveyResponseDto responseDto);
     
+    /**
+     * Bir katılımcının anketteki tüm yanıtlarını tek işlemde doğrular ve kaydeder
+     */
+    List<SurveyResponseDto> submitAll(Long surveyId, SurveySubmissionDto submissionDto);
+    
     /**
      * Anket yanıtlarını getirir
      */
     List<SurveyResponseDto> getResponses(Long surveyId);
     
+    /**
+     * Anket yanıtlarını verilen biçimde doğrudan çıkış akışına yazar (sabit bellekle)
+     */
+    void exportResponses(Long surveyId, ExportFormat format, OutputStream out) throws IOException;
+    
     /**
      * Anket sonuçlarını analiz eder
      */
@@ -91,4 +104,12 @@ public interface SurveyService {
      * Belirtilen kullanıcının sorunun bulunduğu anketin sahibi olup olmadığını kontrol eder
      */
     boolean isQuestionInSurveyCreatedByUser(Long userId, Long questionId);
-} 
\ No newline at end of file
+    
+    /**
+     * Yanıt dışa aktarım biçimleri
+     */
+    enum ExportFormat {
+        CSV,     // Başlık satırlı, virgülle ayrılmış değerler
+        NDJSON   // Satır başına bir JSON nesnesi
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.SurveyResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Anket sonuçları için önceden hesaplanmış soru özetleri (seçenek sayaçları, derecelendirme histogramı,
+ * sayısal değerlerin sayısı ve toplamı). Yanıtlar kaydedilirken artımlı olarak güncellenir;
+ * sonuç analizi ham yanıtları okumadan bu özetlerden yapılır.
+ */
+public interface SurveyTallyService {
+
+    /**
+     * Yeni kaydedilen yanıtları özetlere ekler. Çağıranın işlemi içinde çalışır, böylece
+     * yanıtlar ve özetler birlikte commit edilir.
+     *
+     * @param surveyId Anket ID
+     * @param responses Kaydedilmiş yanıtlar (soruları yüklenmiş olmalı)
+     */
+    void recordResponses(Long surveyId, List<SurveyResponse> responses);
+
+    /**
+     * Anketin soru özetlerini getirir; yanıtı olmayan sorular sonuçta yer almaz
+     *
+     * @param surveyId Anket ID
+     * @return Soru ID → özet
+     */
+    Map<Long, QuestionTally> getTallies(Long surveyId);
+
+    /**
+     * Anketin özetlerini siler
+     */
+    void deleteForSurvey(Long surveyId);
+
+    /**
+     * Sorunun özetlerini siler
+     */
+    void deleteForQuestion(Long questionId);
+
+    /**
+     * Anketin özetlerini ham yanıtlardan yeniden hesaplar (kendi işleminde)
+     *
+     * @param surveyId Anket ID
+     */
+    void rebuild(Long surveyId);
+
+    /**
+     * Tüm anketlerin özetlerini yeniden hesaplar; her anket ayrı bir işlemde işlenir
+     *
+     * @return İşlenen anket sayısı
+     */
+    int rebuildAll();
+
+    /**
+     * Tek bir sorunun özeti
+     *
+     * @param responseCount Yanıt sayısı
+     * @param valueCount Sayısal değer içeren yanıt sayısı
+     * @param valueSum Sayısal değerlerin toplamı
+     * @param valueMin En küçük değer (yoksa null)
+     * @param valueMax En büyük değer (yoksa null)
+     * @param optionCounts Seçenek → seçilme sayısı
+     * @param valueHistogram Derecelendirme/ölçek değeri → yanıt sayısı
+     */
+    record QuestionTally(long responseCount, long valueCount, long valueSum, Integer valueMin, Integer valueMax,
+                         Map<String, Long> optionCounts, Map<String, Long> valueHistogram) {
+    }
+}
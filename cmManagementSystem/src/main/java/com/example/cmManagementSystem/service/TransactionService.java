@@ -1,5 +1,6 @@
 package com.example.cmManagementSystem.service;
 
+import com.example.cmManagementSystem.dto.CursorPage;
 import com.example.cmManagementSystem.dto.TransactionDto;
 import com.example.cmManagementSystem.entity.Transaction;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,17 @@ public interface TransactionService {
      * @return İşlem sayfası
      */
     Page<TransactionDto> findAll(Pageable pageable);
+
+    /**
+     * İşlemleri en yeniden eskiye (transactionDate, id) sırasında imleç tabanlı sayfalama ile getirir
+     * 
+     * @param clubId Kulüp filtresi (opsiyonel)
+     * @param after Önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return İmleç tabanlı işlem sayfası
+     */
+    CursorPage<TransactionDto> findAllByCursor(Long clubId, String after, int size);
+    
     
     /**
      * ID'ye göre işlem getirir
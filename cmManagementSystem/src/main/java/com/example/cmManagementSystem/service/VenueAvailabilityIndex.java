@@ -0,0 +1,122 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.TimeSlotDto;
+import com.example.cmManagementSystem.entity.VenueReservation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mekan doluluğu için uygulama içi indeks. Her mekanın aktif (reddedilmemiş ve iptal edilmemiş)
+ * rezervasyonları bir aralık ağacında tutulur; müsaitlik, çakışma ve boş zaman aramaları
+ * veritabanına gitmeden O(log n) sürede yanıtlanır. Zaman aralıkları yarı açıktır: [başlangıç, bitiş).
+ */
+public interface VenueAvailabilityIndex {
+
+    /**
+     * Doluluk tablosunun dilim uzunluğu (dakika)
+     */
+    int OCCUPANCY_SLOT_MINUTES = 15;
+
+    /**
+     * Rezervasyonu indekse ekler veya günceller; aktif olmayan durumdaki rezervasyon indeksten çıkarılır.
+     * İşlem içinde çağrılırsa indeks commit sonrasında güncellenir.
+     *
+     * @param reservation Rezervasyon
+     */
+    void put(VenueReservation reservation);
+
+    /**
+     * Rezervasyonu indeksten çıkarır
+     *
+     * @param reservationId Rezervasyon ID
+     */
+    void remove(Long reservationId);
+
+    /**
+     * Mekanın tüm rezervasyonlarını indeksten çıkarır
+     *
+     * @param venueId Mekan ID
+     */
+    void removeVenue(Long venueId);
+
+    /**
+     * Verilen aralıkla çakışan herhangi bir rezervasyonu bulur
+     *
+     * @param venueId Mekan ID
+     * @param startTime Başlangıç
+     * @param endTime Bitiş
+     * @param excludeReservationId Hariç tutulacak rezervasyon (güncellemede kendisi), yoksa null
+     * @return Çakışan rezervasyon ID'si, çakışma yoksa null
+     */
+    Long findConflict(Long venueId, LocalDateTime startTime, LocalDateTime endTime, Long excludeReservationId);
+
+    /**
+     * Verilen aralıkla çakışan tüm rezervasyonları başlangıç sırasıyla getirir
+     *
+     * @param venueId Mekan ID
+     * @param startTime Başlangıç
+     * @param endTime Bitiş
+     * @return Çakışan rezervasyon ID'leri
+     */
+    List<Long> findConflicts(Long venueId, LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Verilen mekanlardan aralık boyunca tamamen boş olanları tek kilit altında süzer
+     *
+     * @param venueIds Aday mekan ID'leri
+     * @param startTime Başlangıç
+     * @param endTime Bitiş
+     * @return Boş mekanların ID'leri (aday sırasıyla)
+     */
+    List<Long> filterAvailable(Collection<Long> venueIds, LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * Verilen pencere içindeki en az minDuration uzunluğundaki boş aralıkları getirir
+     *
+     * @param venueId Mekan ID
+     * @param from Pencere başlangıcı
+     * @param to Pencere bitişi
+     * @param minDuration En kısa boşluk süresi
+     * @return Boş zaman aralıkları
+     */
+    List<TimeSlotDto> findFreeSlots(Long venueId, LocalDateTime from, LocalDateTime to, Duration minDuration);
+
+    /**
+     * Verilen andan sonra biten, onay bekleyen veya onaylanmış rezervasyonların sayısı
+     *
+     * @param venueId Mekan ID
+     * @param now Referans zamanı
+     * @return Yaklaşan rezervasyon sayısı
+     */
+    int countUpcoming(Long venueId, LocalDateTime now);
+
+    /**
+     * Mekanın verilen anda onaylanmış bir rezervasyonla dolu olup olmadığını kontrol eder
+     *
+     * @param venueId Mekan ID
+     * @param time Zaman
+     * @return Onaylı rezervasyon varsa true
+     */
+    boolean isOccupiedAt(Long venueId, LocalDateTime time);
+
+    /**
+     * Mekanın from anından başlayan slotCount adet 15 dakikalık dilimdeki doluluğunu bit dizisi olarak okur.
+     * Sonucun i. biti (i / 64. elemanın i % 64. biti) i. dilimin dolu olduğunu gösterir.
+     *
+     * @param venueId Mekan ID
+     * @param from Dilim sınırına hizalı başlangıç
+     * @param slotCount Dilim sayısı
+     * @return Doluluk bitleri
+     */
+    long[] readOccupancy(Long venueId, LocalDateTime from, int slotCount);
+
+    /**
+     * İndeksi veritabanındaki rezervasyonlardan yeniden oluşturur
+     *
+     * @return İndekslenen rezervasyon sayısı
+     */
+    int rebuild();
+}
@@ -0,0 +1,51 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Venue;
+
+import java.util.List;
+
+/**
+ * Mekan koordinatları için uygulama içi geohash indeksi. Yakınlık aramaları yalnızca
+ * arama dairesini kapsayan geohash hücrelerini tarar ve sonuçları uzaklığa göre sıralar.
+ */
+public interface VenueGeoIndex {
+
+    /**
+     * Mekanın koordinatını indekse ekler veya günceller; koordinatı olmayan mekan indeksten çıkarılır.
+     * İşlem içinde çağrılırsa indeks commit sonrasında güncellenir.
+     *
+     * @param venue Mekan
+     */
+    void put(Venue venue);
+
+    /**
+     * Mekanı indeksten çıkarır
+     *
+     * @param venueId Mekan ID
+     */
+    void remove(Long venueId);
+
+    /**
+     * Verilen noktaya radiusKm içindeki en yakın mekanları yakından uzağa getirir
+     *
+     * @param latitude Enlem
+     * @param longitude Boylam
+     * @param radiusKm Yarıçap (km)
+     * @param limit En fazla sonuç sayısı
+     * @return Mekan ID'leri ve uzaklıkları
+     */
+    List<NearbyVenue> findNearby(double latitude, double longitude, double radiusKm, int limit);
+
+    /**
+     * Eksik sayısal koordinatları doldurur ve indeksi veritabanından yeniden oluşturur
+     *
+     * @return İndekslenen mekan sayısı
+     */
+    int rebuild();
+
+    /**
+     * Yakınlık araması sonucu
+     */
+    record NearbyVenue(Long venueId, double distanceKm) {
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.cmManagementSystem.service;
 
+import com.example.cmManagementSystem.dto.ReservationSeriesRequestDto;
+import com.example.cmManagementSystem.dto.ReservationSeriesResultDto;
+import com.example.cmManagementSystem.dto.TimeSlotDto;
 import com.example.cmManagementSystem.dto.VenueDto;
+import com.example.cmManagementSystem.dto.VenueOccupancyDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
+import com.example.cmManagementSystem.dto.VenueSearchRequestDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -42,11 +47,36 @@ public interface VenueService {
      */
     Map<String, Boolean> checkAvailability(Long venueId, LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * Verilen noktaya radiusKm içindeki mekânları yakından uzağa getirir
+     */
+    List<VenueDto> findNearby(double latitude, double longitude, double radiusKm, int limit);
+    
+    /**
+     * Verilen zaman aralığında boş olan ve filtrelere uyan mekânları uygunluk sırasıyla getirir
+     */
+    List<VenueDto> searchAvailable(VenueSearchRequestDto request);
+    
+    /**
+     * Tüm mekânların [from, to) penceresindeki 15 dakikalık doluluk tablosunu ve kullanım oranlarını getirir
+     */
+    VenueOccupancyDto getOccupancy(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Mekânın verilen pencere içinde en az minMinutes dakikalık boş zaman aralıklarını getirir
+     */
+    List<TimeSlotDto> findFreeSlots(Long venueId, LocalDateTime from, LocalDateTime to, int minMinutes);
+    
     /**
      * Mekâna ait rezervasyonları getirir
      */
     List<VenueReservationDto> getReservations(Long venueId);
     
+    /**
+     * Tekrarlayan rezervasyon serisi oluşturur; çakışmayan tekrarlar kaydedilir, çakışanlar raporlanır
+     */
+    ReservationSeriesResultDto createReservationSeries(Long venueId, ReservationSeriesRequestDto request);
+    
     /**
      * Mekân için yeni rezervasyon oluşturur
      */
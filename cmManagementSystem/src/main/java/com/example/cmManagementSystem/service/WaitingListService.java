@@ -2,6 +2,7 @@ package com.example.cmManagementSystem.service;
 
 import com.example.cmManagementSystem.dto.UserDto;
 import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.dto.WaitingListMoveDto;
 import com.example.cmManagementSystem.entity.WaitingList;
 
 import java.time.LocalDateTime;
@@ -196,13 +197,14 @@ public interface WaitingListService {
     void promoteToParticipant(Long eventId, Long userId);
     
     /**
-     * Bekleme listesinin sırasını değiştirir (öncelik ayarı)
+     * Bekleme listesinin sırasını değiştirir (öncelik ayarı).
+     * Taşımalar tek işlemde doğrulanır ve tek bir toplu güncelleme ile uygulanır.
      * 
      * @param eventId Etkinlik ID
-     * @param waitingListItems Yeni sıralama ile bekleme listesi kayıtları
+     * @param moves Taşınacak kayıtlar ve hedef sıra numaraları
      * @return Güncellenen bekleme listesi kayıtları
      */
-    List<WaitingListDto> reorderWaitingList(Long eventId, List<WaitingListDto> waitingListItems);
+    List<WaitingListDto> reorderWaitingList(Long eventId, List<WaitingListMoveDto> moves);
     
     /**
      * Etkinlik için kontenjan açıldığında bekleme listesindeki kişilere otomatik bildirim gönderir
@@ -0,0 +1,40 @@
+package com.example.cmManagementSystem.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bekleme listesi tekliflerinin (NOTIFIED) yanıt süresi takibi. Yaklaşan son tarihler bellekteki
+ * bir gecikme kuyruğunda (DelayQueue) tutulur; süresi dolan teklifler EXPIRED olarak işaretlenir
+ * ve boşalan yer sıradaki bekleyen kişiye otomatik olarak verilir.
+ */
+public interface WaitlistOfferExpiryService {
+
+    /**
+     * Bir teklifin yanıt son tarihini takibe alır
+     *
+     * @param waitingListId Bekleme listesi kaydı ID
+     * @param eventId Etkinlik ID
+     * @param responseDeadline Yanıt son tarihi
+     */
+    void schedule(Long waitingListId, Long eventId, LocalDateTime responseDeadline);
+
+    /**
+     * Etkinliğin süresi dolmuş tekliflerini EXPIRED olarak işaretler ve
+     * boşalan yerler için bekleme listesinden otomatik kayıt yapar
+     *
+     * @param eventId Etkinlik ID
+     * @return Süresi dolan teklif sayısı
+     */
+    int expireOffers(Long eventId);
+
+    /**
+     * Bekleme listesi kaydına yanıt son tarihi atandığında yayınlanır;
+     * takip, kaydı oluşturan işlem commit edildikten sonra başlar
+     *
+     * @param waitingListId Bekleme listesi kaydı ID
+     * @param eventId Etkinlik ID
+     * @param responseDeadline Yanıt son tarihi
+     */
+    record OfferScheduled(Long waitingListId, Long eventId, LocalDateTime responseDeadline) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cmManagementSystem.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Bekleme listesi sırası, teklif ve kayıt durumu değişikliklerini abone kullanıcılara
+ * Server-Sent Events ile iletir. Değişiklikler uygulama içi olaylarla (WaitlistChanged) bildirilir.
+ */
+public interface WaitlistStreamService {
+
+    /**
+     * Kullanıcıyı etkinliğin canlı bekleme listesi akışına abone eder
+     *
+     * @param eventId Etkinlik ID
+     * @param userId Kullanıcı ID
+     * @return Açık SSE bağlantısı
+     */
+    SseEmitter subscribe(Long eventId, Long userId);
+
+    /**
+     * Etkinliğin bekleme listesi veya kayıtları değiştiğinde yayınlanır.
+     * Akış, değişikliği yapan işlem commit edildikten sonra güncellenir.
+     *
+     * @param eventId Etkinlik ID
+     */
+    record WaitlistChanged(Long eventId) {
+    }
+}
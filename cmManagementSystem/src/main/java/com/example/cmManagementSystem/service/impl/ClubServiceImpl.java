@@ -11,6 +11,7 @@ import com.example.cmManagementSystem.repository.ClubMembershipRepository;
 import com.example.cmManagementSystem.repository.ClubRepository;
 import com.example.cmManagementSystem.repository.UserRepository;
 import com.example.cmManagementSystem.service.ClubService;
+import com.example.cmManagementSystem.service.EventSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,7 @@ public class ClubServiceImpl implements ClubService {
     private final ClubMembershipRepository clubMembershipRepository;
     private final ClubMapper clubMapper;
     private final UserMapper userMapper;
+    private final EventSearchIndex eventSearchIndex;
     
     @Autowired
     public ClubServiceImpl(
@@ -37,12 +40,14 @@ public class ClubServiceImpl implements ClubService {
             UserRepository userRepository,
             ClubMembershipRepository clubMembershipRepository,
             ClubMapper clubMapper,
-            UserMapper userMapper) {
+            UserMapper userMapper,
+            EventSearchIndex eventSearchIndex) {
         this.clubRepository = clubRepository;
         this.userRepository = userRepository;
         this.clubMembershipRepository = clubMembershipRepository;
         this.clubMapper = clubMapper;
         this.userMapper = userMapper;
+        this.eventSearchIndex = eventSearchIndex;
     }
     
     @Override
@@ -122,9 +127,15 @@ public class ClubServiceImpl implements ClubService {
         Club club = clubRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Kulüp bulunamadı: " + id));
         
+        String previousName = club.getName();
         clubMapper.updateEntityFromDto(clubDto, club);
         club = clubRepository.save(club);
         
+        // Kulüp adı etkinliklerin arama dokümanlarında yer aldığından ad değişince etkinlikler yeniden indekslenir
+        if (!Objects.equals(previousName, club.getName())) {
+            eventSearchIndex.reindexClub(club.getId());
+        }
+        
         return clubMapper.toDto(club);
     }
     
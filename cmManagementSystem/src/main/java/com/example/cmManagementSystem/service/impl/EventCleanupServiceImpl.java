@@ -0,0 +1,183 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.service.EventCleanupService;
+import com.example.cmManagementSystem.service.EventSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@Slf4j
+public class EventCleanupServiceImpl implements EventCleanupService {
+
+    // Etkinlik silindiğinde kayıtları korunan, yalnızca etkinlik bağlantısı kaldırılan tablolar
+    private static final List<String> DETACHED_TABLES = List.of(
+            "surveys", "venue_reservations", "transactions", "digital_assets", "reports");
+
+    // Etkinlikle birlikte silinen tablolar; event_programs, event_speakers'a bağlı olduğu için önce silinir
+    private static final List<String> CHILD_TABLES = List.of(
+            "event_programs", "event_speakers", "certificates", "event_participations",
+            "waiting_lists", "caterings", "event_sponsors");
+
+    // Arşive yalnızca başka kalıcı kayıtların (sertifika, bütçe işlemi, anket vb.) bağlı olmadığı etkinlikler taşınır.
+    // SKIP LOCKED: birden fazla uygulama örneği aynı anda çalışırsa aynı etkinlikleri işlemez.
+    private static final String SELECT_ARCHIVE_CANDIDATES_SQL =
+            "SELECT e.id FROM events e " +
+            "WHERE e.status = 'COMPLETED' AND e.end_date < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM certificates c WHERE c.event_id = e.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.event_id = e.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM surveys s WHERE s.event_id = e.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM venue_reservations r WHERE r.event_id = e.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM digital_assets d WHERE d.event_id = e.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM reports rp WHERE rp.event_id = e.id) " +
+            "ORDER BY e.id LIMIT :limit " +
+            "FOR UPDATE OF e SKIP LOCKED";
+
+    // Sorgulanan alanlar ayrı sütunlara, satırın tamamı (tüm sütunlarıyla) row_data'ya yazılır;
+    // böylece arşiv sütunlarında karşılığı olmayan alanlar da silinmeden önce korunur
+    private static final String ARCHIVE_EVENTS_SQL =
+            "INSERT INTO events_archive (id, title, description, category, location, start_date, end_date, " +
+            "capacity, max_participants, participant_count, status, type, budget, club_id, created_by, " +
+            "created_at, updated_at, row_data, archived_at) " +
+            "SELECT e.id, e.title, e.description, e.category, e.location, e.start_date, e.end_date, " +
+            "e.capacity, e.max_participants, e.participant_count, e.status, e.type, e.budget, e.club_id, e.created_by, " +
+            "e.created_at, e.updated_at, to_jsonb(e), :archivedAt " +
+            "FROM events e WHERE e.id IN (:ids) " +
+            "ON CONFLICT (id) DO NOTHING";
+
+    private static final String ARCHIVE_PARTICIPATIONS_SQL =
+            "INSERT INTO event_participations_archive (id, event_id, user_id, status, registration_date, " +
+            "attendance_date, cancellation_date, cancellation_reason, feedback_text, feedback_rating, " +
+            "feedback_date, certificate_code, created_at, row_data, archived_at) " +
+            "SELECT p.id, p.event_id, p.user_id, p.status, p.registration_date, " +
+            "p.attendance_date, p.cancellation_date, p.cancellation_reason, p.feedback_text, p.feedback_rating, " +
+            "p.feedback_date, p.certificate_code, p.created_at, to_jsonb(p), :archivedAt " +
+            "FROM event_participations p WHERE p.event_id IN (:ids) " +
+            "ON CONFLICT (id) DO NOTHING";
+
+    // Kendi arşiv tablosu olmayan alt tablolar; satırlar silinmeden önce JSON olarak event_records_archive'a
+    // kopyalanır, böylece arşivleme veri kaybetmez (sertifikası olan etkinlikler zaten arşive alınmaz)
+    private static final List<String> ARCHIVED_RECORD_TABLES = List.of(
+            "event_speakers", "event_programs", "caterings", "waiting_lists", "event_sponsors");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventSearchIndex eventSearchIndex;
+    private final CacheManager cacheManager;
+    private final boolean archiveEnabled;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    @Autowired
+    public EventCleanupServiceImpl(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EventSearchIndex eventSearchIndex,
+            CacheManager cacheManager,
+            @Value("${events.archive.enabled:true}") boolean archiveEnabled,
+            @Value("${events.archive.retention-days:365}") int retentionDays,
+            @Value("${events.archive.chunk-size:200}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventSearchIndex = eventSearchIndex;
+        this.cacheManager = cacheManager;
+        this.archiveEnabled = archiveEnabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+
+        // Her arşiv parçası kendi işleminde commit edilir; uzun süreli kilit tutulmaz
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void deleteEvents(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", eventIds);
+        for (String table : DETACHED_TABLES) {
+            jdbcTemplate.update("UPDATE " + table + " SET event_id = NULL WHERE event_id IN (:ids)", params);
+        }
+        for (String table : CHILD_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE event_id IN (:ids)", params);
+        }
+        jdbcTemplate.update("DELETE FROM events WHERE id IN (:ids)", params);
+    }
+
+    @Scheduled(cron = "${events.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (archiveEnabled) {
+            archiveCompletedEvents();
+        }
+    }
+
+    @Override
+    public int archiveCompletedEvents() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int total = 0;
+
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+            if (archived < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            Cache categoryCache = cacheManager.getCache(EventServiceImpl.CATEGORY_CACHE);
+            if (categoryCache != null) {
+                categoryCache.clear();
+            }
+            log.info("{} tamamlanmış etkinlik arşive taşındı", total);
+        }
+        return total;
+    }
+
+    private int archiveChunk(Timestamp cutoff) {
+        List<Long> eventIds = jdbcTemplate.queryForList(SELECT_ARCHIVE_CANDIDATES_SQL,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", chunkSize),
+                Long.class);
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", eventIds)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(ARCHIVE_PARTICIPATIONS_SQL, params);
+        for (String table : ARCHIVED_RECORD_TABLES) {
+            jdbcTemplate.update("INSERT INTO event_records_archive (event_id, source_table, row_data, archived_at) " +
+                    "SELECT t.event_id, '" + table + "', to_jsonb(t), :archivedAt " +
+                    "FROM " + table + " t WHERE t.event_id IN (:ids)", params);
+        }
+        jdbcTemplate.update(ARCHIVE_EVENTS_SQL, params);
+        deleteEvents(eventIds);
+
+        // Arama indeksi parça commit edildikten sonra güncellenir
+        eventIds.forEach(eventSearchIndex::remove);
+        return eventIds.size();
+    }
+}
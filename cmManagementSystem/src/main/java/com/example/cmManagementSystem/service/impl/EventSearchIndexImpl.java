@@ -0,0 +1,349 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.repository.EventRepository;
+import com.example.cmManagementSystem.service.EventSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class EventSearchIndexImpl implements EventSearchIndex {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Alan ağırlıkları: başlıkta geçen bir kelime açıklamada geçenden daha değerlidir
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float CLUB_NAME_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    // "konf" gibi kelime başı eşleşmeleri tam eşleşmenin yarı puanını alır
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private IndexState state = new IndexState();
+    // Yeniden oluşturma sürerken gelen değişiklikler (null değer = silme); yeni indekse tekrar uygulanır
+    private Map<Long, Document> rebuildJournal;
+
+    @Autowired
+    public EventSearchIndexImpl(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuild();
+    }
+
+    @Override
+    public void index(Event event) {
+        if (event == null || event.getId() == null) {
+            return;
+        }
+
+        // Alanlar çağıran işlem içindeyken okunur (kulüp lazy yüklenebilir), indeks commit sonrası güncellenir
+        Document document = buildDocument(
+                event.getTitle(),
+                event.getDescription(),
+                event.getCategory(),
+                event.getClub() != null ? event.getClub().getName() : null,
+                event.getStatus());
+        afterCommit(() -> apply(event.getId(), document));
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        afterCommit(() -> apply(eventId, null));
+    }
+
+    @Override
+    public void reindexClub(Long clubId) {
+        if (clubId == null) {
+            return;
+        }
+
+        // Satırlar çağıran işlem içinde okunur (henüz commit edilmemiş yeni kulüp adı dahil), indeks commit sonrası güncellenir
+        Map<Long, Document> documents = new LinkedHashMap<>();
+        for (Object[] row : eventRepository.findSearchRowsByClubId(clubId)) {
+            documents.put((Long) row[0], buildDocument(
+                    (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                    (Event.EventStatus) row[5]));
+        }
+        if (!documents.isEmpty()) {
+            afterCommit(() -> documents.forEach(this::apply));
+        }
+    }
+
+    @Override
+    public Page<Long> search(String keyword, Event.EventStatus status, Pageable pageable) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(keyword)));
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(state.documents.size(), 1);
+            for (String term : terms) {
+                addScores(scores, state.postings.get(term), documentCount, 1.0);
+
+                if (term.length() >= MIN_PREFIX_LENGTH) {
+                    for (Map.Entry<String, Map<Long, Float>> entry : state.postings.tailMap(term, false).entrySet()) {
+                        if (!entry.getKey().startsWith(term)) {
+                            break;
+                        }
+                        addScores(scores, entry.getValue(), documentCount, PREFIX_MATCH_FACTOR);
+                    }
+                }
+            }
+
+            if (status != null) {
+                scores.keySet().removeIf(eventId -> state.documents.get(eventId).status != status);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageContent = new ArrayList<>(to - from);
+        for (Map.Entry<Long, Double> entry : ranked.subList(from, to)) {
+            pageContent.add(entry.getKey());
+        }
+
+        return new PageImpl<>(pageContent, pageable, ranked.size());
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                IndexState fresh = new IndexState();
+                long lastId = 0L;
+                List<Object[]> rows;
+                do {
+                    // Skaler projeksiyon: entity'ler persistence context'te birikmez
+                    rows = eventRepository.findSearchRowsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                    for (Object[] row : rows) {
+                        Long eventId = (Long) row[0];
+                        fresh.put(eventId, buildDocument(
+                                (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                                (Event.EventStatus) row[5]));
+                        lastId = eventId;
+                    }
+                } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal.forEach(fresh::apply);
+                    state = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                log.info("Etkinlik arama indeksi oluşturuldu: {} etkinlik, {} terim",
+                        fresh.documents.size(), fresh.postings.size());
+                return fresh.documents.size();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private void apply(Long eventId, Document document) {
+        lock.writeLock().lock();
+        try {
+            state.apply(eventId, document);
+            if (rebuildJournal != null) {
+                rebuildJournal.put(eventId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void addScores(Map<Long, Double> scores, Map<Long, Float> postings, int documentCount, double factor) {
+        if (postings == null || postings.isEmpty()) {
+            return;
+        }
+
+        // Nadir geçen terimler daha ayırt edicidir (idf)
+        double idf = Math.log(1.0 + (double) documentCount / postings.size());
+        for (Map.Entry<Long, Float> posting : postings.entrySet()) {
+            scores.merge(posting.getKey(), posting.getValue() * idf * factor, Double::sum);
+        }
+    }
+
+    private static Document buildDocument(String title, String description, String category,
+                                          String clubName, Event.EventStatus status) {
+        Map<String, Float> termWeights = new HashMap<>();
+        addTerms(termWeights, title, TITLE_WEIGHT);
+        addTerms(termWeights, category, CATEGORY_WEIGHT);
+        addTerms(termWeights, clubName, CLUB_NAME_WEIGHT);
+        addTerms(termWeights, description, DESCRIPTION_WEIGHT);
+        return new Document(termWeights, status);
+    }
+
+    private static void addTerms(Map<String, Float> termWeights, String text, float weight) {
+        for (String token : tokenize(text)) {
+            termWeights.merge(token, weight, Float::sum);
+        }
+    }
+
+    /**
+     * Metni Türkçe kurallarına göre küçük harfe çevirir, Türkçe karakterleri sadeleştirir
+     * (ı→i, ş→s, ...) ve harf/rakam dışı karakterlerden böler.
+     * Böylece "İSTANBUL", "Istanbul" ve "istanbul" aynı terime indirgenir.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String token : TOKEN_SEPARATOR.split(fold(text.toLowerCase(TURKISH)))) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case 'ı' -> folded.append('i');
+                case 'ş' -> folded.append('s');
+                case 'ğ' -> folded.append('g');
+                case 'ç' -> folded.append('c');
+                case 'ö' -> folded.append('o');
+                case 'ü' -> folded.append('u');
+                case 'â' -> folded.append('a');
+                case 'î' -> folded.append('i');
+                case 'û' -> folded.append('u');
+                case '\u0307' -> { } // "İ" küçültüldüğünde kalabilecek birleşik nokta
+                default -> folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * İndekslenmiş bir etkinliğin terim ağırlıkları
+     */
+    private static final class Document {
+
+        private final Map<String, Float> termWeights;
+        private final Event.EventStatus status;
+
+        private Document(Map<String, Float> termWeights, Event.EventStatus status) {
+            this.termWeights = termWeights;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Terim → (etkinlik ID → ağırlık) eşlemesi. Terimler sıralı tutulur, böylece kelime başı
+     * aramaları TreeMap aralık sorgusu ile yapılabilir.
+     */
+    private static final class IndexState {
+
+        private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        private void apply(Long eventId, Document document) {
+            if (document == null) {
+                remove(eventId);
+            } else {
+                put(eventId, document);
+            }
+        }
+
+        private void put(Long eventId, Document document) {
+            remove(eventId);
+            documents.put(eventId, document);
+            for (Map.Entry<String, Float> entry : document.termWeights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(eventId, entry.getValue());
+            }
+        }
+
+        private void remove(Long eventId) {
+            Document existing = documents.remove(eventId);
+            if (existing == null) {
+                return;
+            }
+            for (String term : existing.termWeights.keySet()) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(eventId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.cmManagementSystem.service.impl;
 
+import com.example.cmManagementSystem.dto.BulkRegistrationResultDto;
 import com.example.cmManagementSystem.dto.CateringDto;
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.EventDetailDto;
 import com.example.cmManagementSystem.dto.EventDto;
 import com.example.cmManagementSystem.dto.EventProgramDto;
 import com.example.cmManagementSystem.dto.EventSpeakerDto;
+import com.example.cmManagementSystem.dto.PageCursor;
+import com.example.cmManagementSystem.dto.SponsorDto;
 import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
 import com.example.cmManagementSystem.dto.WaitingListDto;
@@ -11,33 +16,105 @@ import com.example.cmManagementSystem.entity.Club;
 import com.example.cmManagementSystem.entity.Event;
 import com.example.cmManagementSystem.entity.EventParticipation;
 import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.entity.WaitingList;
 import com.example.cmManagementSystem.mapper.EventMapper;
+import com.example.cmManagementSystem.mapper.SponsorMapper;
+import com.example.cmManagementSystem.mapper.VenueReservationMapper;
 import com.example.cmManagementSystem.repository.ClubRepository;
 import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.EventProgramRepository;
 import com.example.cmManagementSystem.repository.EventRepository;
+import com.example.cmManagementSystem.repository.EventSpeakerRepository;
+import com.example.cmManagementSystem.repository.SponsorRepository;
 import com.example.cmManagementSystem.repository.UserRepository;
+import com.example.cmManagementSystem.repository.VenueReservationRepository;
+import com.example.cmManagementSystem.repository.WaitingListRepository;
+import com.example.cmManagementSystem.service.EventCleanupService;
+import com.example.cmManagementSystem.service.EventSearchIndex;
 import com.example.cmManagementSystem.service.EventService;
+import com.example.cmManagementSystem.service.RegistrationSequencer;
+import com.example.cmManagementSystem.service.WaitingListService;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class EventServiceImpl implements EventService {
     
+    static final String CATEGORY_CACHE = "eventCategories";
+    
+    static final int BULK_BATCH_SIZE = 200;
+    
+    private static final String PARTICIPANT_COUNT_BACKFILL = "event-participant-count-backfill";
+    
+    static final List<EventParticipation.ParticipationStatus> ACTIVE_PARTICIPATION_STATUSES = List.of(
+            EventParticipation.ParticipationStatus.REGISTERED, EventParticipation.ParticipationStatus.ATTENDED);
+    
+    private static final List<EventParticipation.ParticipationStatus> INACTIVE_PARTICIPATION_STATUSES = List.of(
+            EventParticipation.ParticipationStatus.ABSENT, EventParticipation.ParticipationStatus.WAITLISTED);
+    
+    static final String INSERT_PARTICIPATION_SQL =
+            "INSERT INTO event_participations (event_id, user_id, status, registration_date, created_at, updated_at) " +
+            "VALUES (?, ?, 'REGISTERED', ?, ?, ?)";
+    
+    private static final String INSERT_WAITING_LIST_SQL =
+            "INSERT INTO waiting_lists (event_id, user_id, join_date, position, notification_sent, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, false, 'WAITING', ?, ?)";
+    
+    // Daha önce süresi dolmuş/iptal edilmiş bekleme kaydını listenin sonuna yeniden alır
+    private static final String REQUEUE_WAITING_LIST_SQL =
+            "UPDATE waiting_lists SET status = 'WAITING', position = ?, join_date = ?, notification_sent = false, " +
+            "notification_date = NULL, response_deadline = NULL, response_date = NULL, updated_at = ? WHERE id = ?";
+    
     private final EventRepository eventRepository;
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final EventParticipationRepository participationRepository;
     private final EventMapper eventMapper;
+    private final WaitingListService waitingListService;
+    private final RegistrationSequencer registrationSequencer;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventCleanupService eventCleanupService;
+    private final WaitingListRepository waitingListRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSpeakerRepository speakerRepository;
+    private final EventProgramRepository programRepository;
+    private final SponsorRepository sponsorRepository;
+    private final VenueReservationRepository reservationRepository;
+    private final SponsorMapper sponsorMapper;
+    private final VenueReservationMapper reservationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final SchemaMigrations schemaMigrations;
     
     @Autowired
     public EventServiceImpl(
@@ -45,18 +122,76 @@ public class EventServiceImpl implements EventService {
             ClubRepository clubRepository,
             UserRepository userRepository,
             EventParticipationRepository participationRepository,
-            EventMapper eventMapper) {
+            EventMapper eventMapper,
+            WaitingListService waitingListService,
+            RegistrationSequencer registrationSequencer,
+            EventSearchIndex eventSearchIndex,
+            EventCleanupService eventCleanupService,
+            WaitingListRepository waitingListRepository,
+            JdbcTemplate jdbcTemplate,
+            EventSpeakerRepository speakerRepository,
+            EventProgramRepository programRepository,
+            SponsorRepository sponsorRepository,
+            VenueReservationRepository reservationRepository,
+            SponsorMapper sponsorMapper,
+            VenueReservationMapper reservationMapper,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            SchemaMigrations schemaMigrations) {
         this.eventRepository = eventRepository;
         this.clubRepository = clubRepository;
         this.userRepository = userRepository;
         this.participationRepository = participationRepository;
         this.eventMapper = eventMapper;
+        this.waitingListService = waitingListService;
+        this.registrationSequencer = registrationSequencer;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventCleanupService = eventCleanupService;
+        this.waitingListRepository = waitingListRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.speakerRepository = speakerRepository;
+        this.programRepository = programRepository;
+        this.sponsorRepository = sponsorRepository;
+        this.reservationRepository = reservationRepository;
+        this.sponsorMapper = sponsorMapper;
+        this.reservationMapper = reservationMapper;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.schemaMigrations = schemaMigrations;
+    }
+    
+    // participant_count sütunu eklendiğinde mevcut etkinliklerin sayaçlarını bir kez doldur.
+    // Her etkinlik satırı sayılmadan önce kilitlenir: eski sürümle birlikte çalışan düğümlerin
+    // kayıtları sayaç ile sayım arasına giremez. Sonraki açılışlarda görev atlanır.
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncParticipantCounts() {
+        schemaMigrations.runOnce(PARTICIPANT_COUNT_BACKFILL, () -> {
+            for (Long eventId : eventRepository.findAllIds()) {
+                eventRepository.findByIdForUpdate(eventId)
+                        .ifPresent(event -> eventRepository.recalculateParticipantCount(eventId));
+            }
+        });
     }
     
     @Override
     public Page<EventDto> findAll(Pageable pageable) {
-        return eventRepository.findAll(pageable)
-                .map(eventMapper::toDto);
+        return eventRepository.findAll(pageable).map(eventMapper::toDto);
+    }
+    
+    @Override
+    public CursorPage<EventDto> findAllByCursor(Event.EventStatus status, String category, String after, int size) {
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor cursor = PageCursor.decode(after);
+        String categoryFilter = (category == null || category.isEmpty()) ? null : category;
+        
+        // Bir fazla kayıt çekilerek sonraki sayfanın varlığı COUNT sorgusu olmadan anlaşılır
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Event> rows = cursor == null
+                ? eventRepository.findFirstPage(status, categoryFilter, limit)
+                : eventRepository.findPageAfter(status, categoryFilter, cursor.getSortValue(), cursor.getId(), limit);
+        
+        return CursorPage.of(rows, pageSize, eventMapper::toDto,
+                event -> new PageCursor(event.getStartDate(), event.getId()));
     }
     
     @Override
@@ -66,27 +201,80 @@ public class EventServiceImpl implements EventService {
         return eventMapper.toDto(event);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public EventDetailDto getEventDetail(Long id) {
+        // Etkinlik, kulüp ve oluşturan kullanıcı tek sorguda (Event.detail grafiği)
+        Event event = eventRepository.findDetailById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + id));
+        
+        // Koleksiyonlar ayrı sorgularla liste olarak alınır; etkinlik persistence context'te
+        // olduğundan alt kayıtlardaki event referansları ek sorgu çalıştırmaz
+        List<EventSpeakerDto> speakers = speakerRepository.findByEventIdOrderByOrderIndexAsc(id).stream()
+                .map(eventMapper::toSpeakerDto)
+                .collect(Collectors.toList());
+        List<EventProgramDto> program = programRepository.findWithSpeakerByEventIdOrderByOrderIndexAscStartTimeAsc(id).stream()
+                .map(eventMapper::toProgramDto)
+                .collect(Collectors.toList());
+        List<SponsorDto> sponsors = sponsorRepository.findByEventId(id).stream()
+                .map(sponsorMapper::toSummaryDto)
+                .collect(Collectors.toList());
+        
+        return EventDetailDto.builder()
+                .event(eventMapper.toDto(event))
+                .speakers(speakers)
+                .program(program)
+                .sponsors(sponsors)
+                .participantCount(event.getParticipantCount())
+                .waitlistCount(waitingListRepository.countActiveByEventId(id))
+                .build();
+    }
+    
     @Override
     public Page<EventDto> findByStatus(Event.EventStatus status, Pageable pageable) {
-        return eventRepository.findByStatus(status, pageable)
-                .map(eventMapper::toDto);
+        return eventRepository.findByStatus(status, pageable).map(eventMapper::toDto);
     }
     
     @Override
     public Page<EventDto> findByCategory(String category, Pageable pageable) {
-        return eventRepository.findByCategory(category, pageable)
-                .map(eventMapper::toDto);
+        return eventRepository.findByCategory(category, pageable).map(eventMapper::toDto);
     }
     
     @Override
     public Page<EventDto> findByClubId(Long clubId, Pageable pageable) {
-        return eventRepository.findByClubId(clubId, pageable)
-                .map(eventMapper::toDto);
+        return eventRepository.findByClubId(clubId, pageable).map(eventMapper::toDto);
+    }
+    
+    @Override
+    public Page<EventDto> searchEvents(String keyword, Event.EventStatus status, Pageable pageable) {
+        // İlgililik sırası bellek içi indeksten gelir, etkinlikler tek sorguda yüklenir
+        Page<Long> eventIds = eventSearchIndex.search(keyword, status, pageable);
+        if (eventIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        Map<Long, Event> events = eventRepository.findByIdIn(eventIds.getContent()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        
+        List<EventDto> content = eventIds.getContent().stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(eventMapper::toDto)
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(content, pageable, eventIds.getTotalElements());
+    }
+    
+    @Override
+    public int rebuildSearchIndex() {
+        return eventSearchIndex.rebuild();
     }
     
     @Override
     @Transactional
     public EventDto createEvent(EventDto eventDto) {
+        evictCategoryCacheAfterCommit();
+        
         Event event = eventMapper.toEntity(eventDto);
         
         // Kulüp kontrolü
@@ -109,17 +297,29 @@ public class EventServiceImpl implements EventService {
         }
         
         event = eventRepository.save(event);
+        eventSearchIndex.index(event);
         return eventMapper.toDto(event);
     }
     
     @Override
     @Transactional
     public EventDto updateEvent(Long id, EventDto eventDto) {
+        evictCategoryCacheAfterCommit();
+        
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + id));
         
+        Integer previousCapacity = event.getEffectiveCapacity();
+        Boolean previousAllowWaitlist = event.getAllowWaitlist();
         eventMapper.updateEntityFromDto(eventDto, event);
         
+        // Yoğun kayıt modundaki defter kontenjanı açılışta okur; mod açıkken kontenjan değiştirilemez
+        if (Boolean.TRUE.equals(event.getBurstMode())
+                && (!Objects.equals(previousCapacity, event.getEffectiveCapacity())
+                    || !Objects.equals(previousAllowWaitlist, event.getAllowWaitlist()))) {
+            throw new IllegalStateException("Yoğun kayıt modundaki etkinliğin kontenjanı değiştirilemez: " + id);
+        }
+        
         // Kulüp güncellemesi gerekiyorsa
         if (eventDto.getClubId() != null && 
                 (event.getClub() == null || !event.getClub().getId().equals(eventDto.getClubId()))) {
@@ -129,21 +329,28 @@ public class EventServiceImpl implements EventService {
         }
         
         event = eventRepository.save(event);
+        eventSearchIndex.index(event);
         return eventMapper.toDto(event);
     }
     
     @Override
     @Transactional
     public void deleteEvent(Long id) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + id));
+        evictCategoryCacheAfterCommit();
         
-        // Katılımları sil
-        participationRepository.findByEventId(id)
-                .forEach(participationRepository::delete);
+        if (!eventRepository.existsById(id)) {
+            throw new EntityNotFoundException("Etkinlik bulunamadı: " + id);
+        }
         
-        // Etkinliği sil
-        eventRepository.delete(event);
+        // Yoğun kayıt modundaysa bekleyen kayıtları yaz ve defteri kapat
+        if (registrationSequencer.isActive(id)) {
+            registrationSequencer.setBurstMode(id, false);
+        }
+        
+        // Etkinliği ve tüm alt kayıtlarını küme bazlı sorgularla sil
+        eventCleanupService.deleteEvents(List.of(id));
+        eventSearchIndex.remove(id);
+        publishWaitlistChanged(id);
     }
     
     @Override
@@ -154,13 +361,22 @@ public class EventServiceImpl implements EventService {
         
         event.setStatus(status);
         event = eventRepository.save(event);
+        eventSearchIndex.index(event);
         
         return eventMapper.toDto(event);
     }
     
     @Override
     @Transactional
-    public void registerForEvent(Long eventId, Long userId) {
+    public EventParticipation.ParticipationStatus registerForEvent(Long eventId, Long userId) {
+        // Yoğun kayıt modundaki etkinlikler bellekteki koltuk defterinden yanıtlanır
+        if (registrationSequencer.isActive(eventId)) {
+            EventParticipation.ParticipationStatus status = registrationSequencer.register(eventId, userId);
+            if (status != null) {
+                return status;
+            }
+        }
+        
         // Etkinlik kontrolü
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + eventId));
@@ -173,16 +389,37 @@ public class EventServiceImpl implements EventService {
         Optional<EventParticipation> existingParticipation = 
                 participationRepository.findByEventIdAndUserId(eventId, userId);
         
+        // Zaten aktif bir katılım varsa bir şey yapma
+        if (existingParticipation.isPresent()
+                && existingParticipation.get().getStatus() != EventParticipation.ParticipationStatus.CANCELLED) {
+            return existingParticipation.get().getStatus();
+        }
+        
+        // Kontenjan kontrolü: koşullu UPDATE satırı kilitleyerek koltuğu atomik olarak ayırır,
+        // eşzamanlı kayıtlar kontenjanı aşamaz
+        if (eventRepository.tryReserveSeat(eventId) == 0) {
+            // Etkinlik bu arada yoğun kayıt moduna geçtiyse koltuk yalnızca defterden verilebilir
+            if (eventRepository.isBurstMode(eventId)) {
+                return registerThroughSequencer(eventId, userId);
+            }
+            if (Boolean.FALSE.equals(event.getAllowWaitlist())) {
+                throw new IllegalStateException("Etkinlik kontenjanı dolu: " + eventId);
+            }
+            
+            // Kontenjan doluysa bekleme listesine yönlendir
+            if (waitingListService.findByEventAndUser(eventId, userId) == null) {
+                waitingListService.addToWaitingList(eventId, userId, null);
+            }
+            return EventParticipation.ParticipationStatus.WAITLISTED;
+        }
+        
         if (existingParticipation.isPresent()) {
-            // Katılım zaten varsa, iptal edildiyse tekrar aktifleştir
-            EventParticipation participation = existingParticipation.get();
-            if (participation.getStatus() == EventParticipation.ParticipationStatus.CANCELLED) {
-                participation.setStatus(EventParticipation.ParticipationStatus.REGISTERED);
-                participation.setCancellationDate(null);
-                participation.setCancellationReason(null);
-                participationRepository.save(participation);
+            // İptal edilmiş katılımı koşullu olarak tekrar aktifleştir; eşzamanlı bir istek önce
+            // aktifleştirdiyse ayrılan koltuk geri bırakılır
+            if (participationRepository.reactivateCancelled(
+                    List.of(existingParticipation.get().getId()), LocalDateTime.now()) == 0) {
+                eventRepository.releaseSeat(eventId);
             }
-            // Zaten aktif bir katılım varsa bir şey yapma
         } else {
             // Yeni katılım oluştur
             EventParticipation participation = EventParticipation.builder()
@@ -193,50 +430,289 @@ public class EventServiceImpl implements EventService {
                     .build();
             participationRepository.save(participation);
         }
+        
+        publishWaitlistChanged(eventId);
+        return EventParticipation.ParticipationStatus.REGISTERED;
+    }
+    
+    @Override
+    @Transactional
+    public BulkRegistrationResultDto registerBulk(Long eventId, List<String> studentIds) {
+        BulkRegistrationResultDto result = BulkRegistrationResultDto.builder()
+                .eventId(eventId)
+                .requested(studentIds.size())
+                .build();
+        
+        // Tüm öğrenciler tek IN sorgusuyla çözülür; rapor istek sırasını korur
+        Map<String, Long> userIdsByStudentId = userRepository.findByStudentIdIn(new HashSet<>(studentIds)).stream()
+                .collect(Collectors.toMap(User::getStudentId, User::getId));
+        
+        Set<String> seen = new HashSet<>();
+        List<BulkRegistrationResultDto.Entry> candidates = new ArrayList<>();
+        for (String studentId : studentIds) {
+            BulkRegistrationResultDto.Entry entry =
+                    new BulkRegistrationResultDto.Entry(studentId, userIdsByStudentId.get(studentId), null);
+            result.getResults().add(entry);
+            
+            if (!seen.add(studentId)) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.DUPLICATE);
+            } else if (entry.getUserId() == null) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.USER_NOT_FOUND);
+            } else {
+                candidates.add(entry);
+            }
+        }
+        
+        // Yoğun kayıt modundaki etkinliklerde kayıtlar bellekteki koltuk defterinden geçer
+        if (registrationSequencer.isActive(eventId)) {
+            candidates = registerBulkInBurstMode(eventId, candidates);
+        }
+        if (!candidates.isEmpty()) {
+            registerBulkInDatabase(eventId, candidates);
+            publishWaitlistChanged(eventId);
+        }
+        
+        for (BulkRegistrationResultDto.Entry entry : result.getResults()) {
+            switch (entry.getOutcome()) {
+                case REGISTERED -> result.setRegistered(result.getRegistered() + 1);
+                case WAITLISTED -> result.setWaitlisted(result.getWaitlisted() + 1);
+                default -> result.setSkipped(result.getSkipped() + 1);
+            }
+        }
+        return result;
+    }
+    
+    // Yoğun mod açılırken defter commit sonrasında yüklenir; o ana kadar gelen istek tekrar denenmelidir
+    private EventParticipation.ParticipationStatus registerThroughSequencer(Long eventId, Long userId) {
+        EventParticipation.ParticipationStatus status = registrationSequencer.register(eventId, userId);
+        if (status == null) {
+            throw new IllegalStateException("Etkinlik yoğun kayıt moduna geçiyor, lütfen tekrar deneyin: " + eventId);
+        }
+        return status;
+    }
+    
+    // Defter kapanırsa (yoğun mod kapatıldıysa) işlenmeyen öğrencileri veritabanı akışına bırakır
+    private List<BulkRegistrationResultDto.Entry> registerBulkInBurstMode(
+            Long eventId, List<BulkRegistrationResultDto.Entry> candidates) {
+        for (int i = 0; i < candidates.size(); i++) {
+            BulkRegistrationResultDto.Entry entry = candidates.get(i);
+            EventParticipation.ParticipationStatus status;
+            try {
+                status = registrationSequencer.register(eventId, entry.getUserId());
+            } catch (IllegalStateException e) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.REJECTED);
+                continue;
+            }
+            
+            if (status == null) {
+                return candidates.subList(i, candidates.size());
+            }
+            entry.setOutcome(status == EventParticipation.ParticipationStatus.WAITLISTED
+                    ? BulkRegistrationResultDto.Outcome.WAITLISTED
+                    : BulkRegistrationResultDto.Outcome.REGISTERED);
+        }
+        return Collections.emptyList();
+    }
+    
+    private void registerBulkInDatabase(Long eventId, List<BulkRegistrationResultDto.Entry> candidates) {
+        // Etkinlik satırı kilitlenir: boş koltuk sayısı bir kez hesaplanır, eşzamanlı tekil kayıtlar bekler
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + eventId));
+        
+        List<Long> userIds = candidates.stream()
+                .map(BulkRegistrationResultDto.Entry::getUserId)
+                .collect(Collectors.toList());
+        Map<Long, EventParticipation> participations = participationRepository.findByEventIdAndUserIdIn(eventId, userIds)
+                .stream()
+                .collect(Collectors.toMap(p -> p.getUser().getId(), Function.identity()));
+        Map<Long, WaitingList> waitingEntries = waitingListRepository.findByEventIdAndUserIdIn(eventId, userIds)
+                .stream()
+                .collect(Collectors.toMap(w -> w.getUser().getId(), Function.identity(),
+                        (first, second) -> isWaiting(first) ? first : second));
+        
+        Integer capacity = event.getEffectiveCapacity();
+        int freeSeats = capacity == null ? Integer.MAX_VALUE : Math.max(capacity - event.getParticipantCount(), 0);
+        boolean allowWaitlist = !Boolean.FALSE.equals(event.getAllowWaitlist());
+        
+        List<Long> reactivatedIds = new ArrayList<>();
+        List<Long> newParticipantIds = new ArrayList<>();
+        List<Long> waitlistedUserIds = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        for (BulkRegistrationResultDto.Entry entry : candidates) {
+            Long userId = entry.getUserId();
+            EventParticipation participation = participations.get(userId);
+            if (participation != null && participation.getStatus() != EventParticipation.ParticipationStatus.CANCELLED) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.ALREADY_REGISTERED);
+                continue;
+            }
+            
+            if (freeSeats > 0) {
+                freeSeats--;
+                if (participation != null) {
+                    reactivatedIds.add(participation.getId());
+                } else {
+                    newParticipantIds.add(userId);
+                }
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.REGISTERED);
+                continue;
+            }
+            
+            // Kontenjan aşıldı: aynı geçişte bekleme listesine yönlendir
+            WaitingList waiting = waitingEntries.get(userId);
+            if (waiting != null && isWaiting(waiting)) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.ALREADY_WAITLISTED);
+            } else if (!allowWaitlist) {
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.REJECTED);
+            } else {
+                waitlistedUserIds.add(userId);
+                entry.setOutcome(BulkRegistrationResultDto.Outcome.WAITLISTED);
+            }
+        }
+        
+        int registeredCount = reactivatedIds.size() + newParticipantIds.size();
+        if (registeredCount > 0 && eventRepository.addParticipants(eventId, registeredCount) == 0) {
+            throw new IllegalStateException("Etkinlik yoğun kayıt moduna geçti, lütfen tekrar deneyin: " + eventId);
+        }
+        if (!reactivatedIds.isEmpty()) {
+            participationRepository.reactivateCancelled(reactivatedIds, now.toLocalDateTime());
+        }
+        if (!newParticipantIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PARTICIPATION_SQL, newParticipantIds, BULK_BATCH_SIZE, (ps, userId) -> {
+                ps.setLong(1, eventId);
+                ps.setLong(2, userId);
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+        }
+        if (waitlistedUserIds.isEmpty()) {
+            return;
+        }
+        
+        // Bekleme sıraları etkinlik sayacından tek seferde, istek sırasıyla ayrılır
+        int nextPosition = eventRepository.allocateWaitlistPositions(eventId, waitlistedUserIds.size())
+                - waitlistedUserIds.size() + 1;
+        List<Object[]> newWaitingEntries = new ArrayList<>();
+        List<Object[]> requeuedEntries = new ArrayList<>();
+        for (Long userId : waitlistedUserIds) {
+            WaitingList waiting = waitingEntries.get(userId);
+            if (waiting != null) {
+                requeuedEntries.add(new Object[]{nextPosition++, now, now, waiting.getId()});
+            } else {
+                newWaitingEntries.add(new Object[]{eventId, userId, now, nextPosition++, now, now});
+            }
+        }
+        
+        if (!newWaitingEntries.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_WAITING_LIST_SQL, newWaitingEntries, BULK_BATCH_SIZE, (ps, row) -> {
+                for (int i = 0; i < row.length; i++) {
+                    ps.setObject(i + 1, row[i]);
+                }
+            });
+        }
+        if (!requeuedEntries.isEmpty()) {
+            jdbcTemplate.batchUpdate(REQUEUE_WAITING_LIST_SQL, requeuedEntries, BULK_BATCH_SIZE, (ps, row) -> {
+                for (int i = 0; i < row.length; i++) {
+                    ps.setObject(i + 1, row[i]);
+                }
+            });
+        }
+    }
+    
+    // Canlı bekleme listesi akışı commit sonrasında WaitlistStreamService tarafından güncellenir
+    private void publishWaitlistChanged(Long eventId) {
+        eventPublisher.publishEvent(new WaitlistStreamService.WaitlistChanged(eventId));
+    }
+    
+    // Kategori önbelleği commit sonrasında temizlenir; commit öncesi temizlenirse eşzamanlı bir okuma
+    // eski veriyi yeniden önbelleğe alabilir ve süre sınırı olmadığından bu değer kalıcı olur
+    private void evictCategoryCacheAfterCommit() {
+        Cache categoryCache = cacheManager.getCache(CATEGORY_CACHE);
+        if (categoryCache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    categoryCache.clear();
+                }
+            });
+        } else {
+            categoryCache.clear();
+        }
+    }
+    
+    private static boolean isWaiting(WaitingList waitingList) {
+        return waitingList.getStatus() == WaitingList.WaitingStatus.WAITING
+                || waitingList.getStatus() == WaitingList.WaitingStatus.NOTIFIED;
     }
     
     @Override
     @Transactional
     public void cancelRegistration(Long eventId, Long userId) {
+        // Yoğun kayıt modunda kuyruktaki kayıtların önce yazılması gerekir
+        registrationSequencer.flush(eventId);
+        
         // Katılım kontrolü
         EventParticipation participation = participationRepository.findByEventIdAndUserId(eventId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("Etkinlik katılımı bulunamadı"));
         
-        // Katılımı iptal et
-        participation.setStatus(EventParticipation.ParticipationStatus.CANCELLED);
-        participation.setCancellationDate(LocalDateTime.now());
-        participationRepository.save(participation);
+        // Durum koşullu UPDATE ile değiştirilir: aktif katılımı yalnızca bir istek iptal edebilir,
+        // koltuk da yalnızca o istekte serbest bırakılır (eşzamanlı iptaller sayacı düşürmez)
+        LocalDateTime now = LocalDateTime.now();
+        if (participationRepository.cancelIfInStatus(participation.getId(), ACTIVE_PARTICIPATION_STATUSES, now) == 1) {
+            eventRepository.releaseSeat(eventId);
+            registrationSequencer.release(eventId, userId);
+        } else {
+            participationRepository.cancelIfInStatus(participation.getId(), INACTIVE_PARTICIPATION_STATUSES, now);
+        }
+        publishWaitlistChanged(eventId);
+    }
+    
+    @Override
+    public void setBurstMode(Long eventId, boolean enabled) {
+        registrationSequencer.setBurstMode(eventId, enabled);
     }
     
     @Override
+    @Cacheable(value = CATEGORY_CACHE, key = "'names'")
     public List<String> findAllCategories() {
-        // Bu metod tüm benzersiz kategorileri veritabanından çeker
-        List<String> categories = new ArrayList<>();
-        eventRepository.findAll().forEach(event -> {
-            if (event.getCategory() != null && !event.getCategory().isEmpty()) {
-                categories.add(event.getCategory());
-            }
-        });
-        
-        // Benzersiz kategorileri dön
-        return categories.stream().distinct().collect(Collectors.toList());
+        // Benzersiz kategoriler indeksli DISTINCT sorgusu ile çekilir, sonuç önbellekte tutulur
+        return Collections.unmodifiableList(eventRepository.findDistinctCategories());
+    }
+    
+    @Override
+    @Cacheable(value = CATEGORY_CACHE, key = "'counts'")
+    public Map<String, Long> findCategoryCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : eventRepository.countEventsByCategory()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return Collections.unmodifiableMap(counts);
     }
     
     @Override
-    public List<EventDto> findEventsByParticipant(Long userId) {
+    @Transactional(readOnly = true)
+    public Page<EventDto> findEventsByParticipant(Long userId, Event.EventStatus status,
+                                                  LocalDateTime from, LocalDateTime to, Pageable pageable) {
         // Kullanıcı kontrolü
         if (!userRepository.existsById(userId)) {
             throw new EntityNotFoundException("Kullanıcı bulunamadı: " + userId);
         }
         
-        // Kullanıcının katıldığı etkinlikleri bul
-        List<EventParticipation> participations = participationRepository.findByUserIdAndStatus(
-                userId, EventParticipation.ParticipationStatus.REGISTERED);
+        // Etkinlikler kulüp ve oluşturan kullanıcı ile tek sorguda gelir (sıralama sorguda sabittir);
+        // sayfasız istekte sayım sorgusu çalışmaz
+        Page<Event> events = participationRepository.findEventsByParticipant(
+                userId, ACTIVE_PARTICIPATION_STATUSES, status, from, to,
+                pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged());
         
-        // DTO'ya dönüştür
-        return participations.stream()
-                .map(participation -> eventMapper.toDto(participation.getEvent()))
-                .collect(Collectors.toList());
+        return events.map(event -> {
+            EventDto dto = eventMapper.toDto(event);
+            dto.setParticipating(true);
+            return dto;
+        });
     }
     
     @Override
@@ -264,11 +740,13 @@ public class EventServiceImpl implements EventService {
     @Override
     public List<VenueReservationDto> getVenueReservations(Long eventId) {
         // Etkinlik kontrolü
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + eventId));
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Etkinlik bulunamadı: " + eventId);
+        }
         
-        // Bu metod şu an için boş bir liste dönüyor, daha sonra implement edilecek
-        return new ArrayList<>();
+        return reservationRepository.findWithDetailsByEventIdOrderByStartTimeAsc(eventId).stream()
+                .map(reservationMapper::toDto)
+                .collect(Collectors.toList());
     }
     
     @Override
@@ -294,8 +772,9 @@ public class EventServiceImpl implements EventService {
             throw new EntityNotFoundException("Etkinlik bulunamadı: " + eventId);
         }
         
-        // Bu metod şu an için boş bir liste dönüyor, daha sonra implement edilecek
-        return new ArrayList<>();
+        return speakerRepository.findByEventIdOrderByOrderIndexAsc(eventId).stream()
+                .map(eventMapper::toSpeakerDto)
+                .collect(Collectors.toList());
     }
     
     @Override
@@ -337,8 +816,9 @@ public class EventServiceImpl implements EventService {
             throw new EntityNotFoundException("Etkinlik bulunamadı: " + eventId);
         }
         
-        // Bu metod şu an için boş bir liste dönüyor, daha sonra implement edilecek
-        return new ArrayList<>();
+        return programRepository.findWithSpeakerByEventIdOrderByOrderIndexAscStartTimeAsc(eventId).stream()
+                .map(eventMapper::toProgramDto)
+                .collect(Collectors.toList());
     }
     
     @Override
@@ -0,0 +1,115 @@
+package com.example.cmManagementSystem.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash kodlama ve yarıçap kapsama yardımcıları.
+ * Bir geohash, boylam ve enlem bitlerinin dönüşümlü birleştirilip base32 ile yazılmasıdır; ortak öneki olan
+ * kodlar aynı hücrededir. Bu nedenle sıralı bir haritada önek aralığı taraması bir hücrenin tüm noktalarını verir.
+ */
+final class Geohash {
+
+    static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    // Bir aramanın taradığı hücre sayısı üst sınırı; aşılırsa daha kaba hassasiyete inilir
+    private static final int MAX_COVER_CELLS = 32;
+
+    private Geohash() {
+    }
+
+    static String encode(double latitude, double longitude, int precision) {
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        return encodeCell(cellIndex(latitude + 90.0, 180.0, latBits), cellIndex(longitude + 180.0, 360.0, lonBits), precision);
+    }
+
+    /**
+     * (lat, lon) merkezli radiusKm yarıçaplı daireyi kapsayan geohash hücrelerini döner.
+     * Hassasiyet, kapsayan hücre sayısı MAX_COVER_CELLS'i aşmayacak en ince düzeydir.
+     */
+    static List<String> cover(double latitude, double longitude, double radiusKm) {
+        double latDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+
+        // Kutba ulaşan dairelerde tüm boylamlar taranır
+        double cosLat = Math.min(Math.cos(Math.toRadians(minLat)), Math.cos(Math.toRadians(maxLat)));
+        double lonDelta = cosLat <= 1e-9 ? 180.0 : Math.min(180.0, latDelta / cosLat);
+
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            int bits = precision * 5;
+            int lonBits = (bits + 1) / 2;
+            int latBits = bits / 2;
+            long lonCells = 1L << lonBits;
+
+            long minLatIdx = cellIndex(minLat + 90.0, 180.0, latBits);
+            long maxLatIdx = cellIndex(maxLat + 90.0, 180.0, latBits);
+            long minLonIdx = 0;
+            long lonSpan = lonCells;
+            if (lonDelta < 180.0) {
+                // Tarih çizgisini geçen aralıklarda indeks başa sarar
+                minLonIdx = cellIndex(normalizeLongitude(longitude - lonDelta) + 180.0, 360.0, lonBits);
+                double cellWidth = 360.0 / lonCells;
+                lonSpan = Math.min(lonCells, (long) Math.floor(2 * lonDelta / cellWidth) + 2);
+            }
+
+            long cellCount = (maxLatIdx - minLatIdx + 1) * lonSpan;
+            if (cellCount > MAX_COVER_CELLS && precision > 1) {
+                continue;
+            }
+
+            List<String> cells = new ArrayList<>((int) cellCount);
+            for (long latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+                for (long offset = 0; offset < lonSpan; offset++) {
+                    cells.add(encodeCell(latIdx, (minLonIdx + offset) % lonCells, precision));
+                }
+            }
+            return cells;
+        }
+        throw new IllegalStateException("Geohash kapsaması hesaplanamadı");
+    }
+
+    /**
+     * İki nokta arasındaki büyük daire uzaklığı (haversine), km
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long cellIndex(double offset, double range, int bits) {
+        long cells = 1L << bits;
+        return Math.min(cells - 1, Math.max(0L, (long) Math.floor(offset / range * cells)));
+    }
+
+    // Boylam ve enlem bitleri boylamdan başlayarak dönüşümlü yazılır, her 5 bit bir karakterdir
+    private static String encodeCell(long latIdx, long lonIdx, int precision) {
+        int bits = precision * 5;
+        int lonBit = (bits + 1) / 2;
+        int latBit = bits / 2;
+        char[] hash = new char[precision];
+        int value = 0;
+        for (int i = 0; i < bits; i++) {
+            int bit = (i % 2 == 0)
+                    ? (int) ((lonIdx >>> --lonBit) & 1L)
+                    : (int) ((latIdx >>> --latBit) & 1L);
+            value = (value << 1) | bit;
+            if (i % 5 == 4) {
+                hash[i / 5] = BASE32[value];
+                value = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        return ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0;
+    }
+}
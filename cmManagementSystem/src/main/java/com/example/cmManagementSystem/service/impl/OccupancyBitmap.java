@@ -0,0 +1,89 @@
+package com.example.cmManagementSystem.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tek bir mekanın 15 dakikalık zaman dilimlerindeki doluluğu: dilim başına bir bit.
+ * Bitler gün bazında iki long (96 dilim) halinde tutulur; boş günler için bellek ayrılmaz.
+ * Bir dilim, herhangi bir rezervasyon onunla kısmen bile çakışıyorsa doludur.
+ * Zamanlar epoch saniyesidir. Eşzamanlı erişim çağıran tarafından senkronize edilmelidir.
+ */
+final class OccupancyBitmap {
+
+    static final long SLOT_SECONDS = 15 * 60;
+    private static final int SLOTS_PER_DAY = 96;
+
+    private final Map<Long, long[]> days = new HashMap<>();
+
+    /**
+     * [start, end) aralığının değdiği dilimleri dolu işaretler
+     */
+    void mark(long start, long end) {
+        for (long slot = firstSlot(start); slot <= lastSlot(end); slot++) {
+            long[] words = days.computeIfAbsent(Math.floorDiv(slot, SLOTS_PER_DAY), day -> new long[2]);
+            int bit = Math.floorMod(slot, SLOTS_PER_DAY);
+            words[bit >>> 6] |= 1L << (bit & 63);
+        }
+    }
+
+    /**
+     * [start, end) aralığının değdiği dilimleri boşaltır
+     */
+    void clear(long start, long end) {
+        for (long slot = firstSlot(start); slot <= lastSlot(end); slot++) {
+            long day = Math.floorDiv(slot, SLOTS_PER_DAY);
+            long[] words = days.get(day);
+            if (words == null) {
+                continue;
+            }
+            int bit = Math.floorMod(slot, SLOTS_PER_DAY);
+            words[bit >>> 6] &= ~(1L << (bit & 63));
+            if (words[0] == 0 && words[1] == 0) {
+                days.remove(day);
+            }
+        }
+    }
+
+    /**
+     * fromSlot'tan başlayan count dilimi okur; sonucun i. biti (i / 64. kelimenin i % 64. biti) i. dilimdir
+     */
+    long[] read(long fromSlot, int count) {
+        long[] result = new long[(count + 63) / 64];
+        for (int i = 0; i < count; i++) {
+            long slot = fromSlot + i;
+            long[] words = days.get(Math.floorDiv(slot, SLOTS_PER_DAY));
+            if (words == null) {
+                // Günün kalan dilimleri atlanır
+                i += SLOTS_PER_DAY - 1 - Math.floorMod(slot, SLOTS_PER_DAY);
+                continue;
+            }
+            int bit = Math.floorMod(slot, SLOTS_PER_DAY);
+            if ((words[bit >>> 6] & (1L << (bit & 63))) != 0) {
+                result[i >>> 6] |= 1L << (i & 63);
+            }
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    // Aralığın dilim sınırlarına genişletilmiş hali: [slotStart(start), slotEnd(end))
+    static long slotStart(long start) {
+        return firstSlot(start) * SLOT_SECONDS;
+    }
+
+    static long slotEnd(long end) {
+        return (lastSlot(end) + 1) * SLOT_SECONDS;
+    }
+
+    private static long firstSlot(long start) {
+        return Math.floorDiv(start, SLOT_SECONDS);
+    }
+
+    private static long lastSlot(long end) {
+        return Math.floorDiv(end - 1, SLOT_SECONDS);
+    }
+}
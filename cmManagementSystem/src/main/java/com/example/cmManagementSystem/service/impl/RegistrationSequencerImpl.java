@@ -0,0 +1,379 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.EventRepository;
+import com.example.cmManagementSystem.repository.UserRepository;
+import com.example.cmManagementSystem.repository.WaitingListRepository;
+import com.example.cmManagementSystem.service.RegistrationSequencer;
+import com.example.cmManagementSystem.service.WaitingListService;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Yoğun kayıt modundaki her etkinlik için bellekte bir koltuk defteri tutar.
+ * İstekler defterden anında REGISTERED/WAITLISTED yanıtı alır; katılımlar tek bir
+ * yazıcı iş parçacığı tarafından JDBC batch ile yazılır.
+ *
+ * Defter uygulama örneğine özeldir: yoğun kayıt modu, etkinliğin kayıt isteklerinin
+ * tek bir uygulama örneğine yönlendirildiği kurulumlar için tasarlanmıştır.
+ */
+@Service
+@Slf4j
+public class RegistrationSequencerImpl implements RegistrationSequencer {
+
+    // Batch tek komutla yazılır. İptal edilmiş bir katılım varsa yeniden aktifleştirir, aktif bir katılım varsa
+    // dokunmaz; RETURNING yalnızca gerçekten eklenen/aktifleştirilen satırları döndürür, sayaç bunlarla artırılır
+    private static final String UPSERT_PARTICIPATIONS_SQL =
+            "INSERT INTO event_participations (event_id, user_id, status, registration_date, created_at, updated_at) " +
+            "SELECT ?, u.user_id, 'REGISTERED', ?, ?, ? FROM unnest(?::bigint[]) AS u(user_id) " +
+            "ON CONFLICT (event_id, user_id) DO UPDATE SET status = 'REGISTERED', " +
+            "registration_date = EXCLUDED.registration_date, cancellation_date = NULL, " +
+            "cancellation_reason = NULL, updated_at = EXCLUDED.updated_at " +
+            "WHERE event_participations.status = 'CANCELLED' " +
+            "RETURNING user_id";
+
+    private static final String INCREMENT_PARTICIPANT_COUNT_SQL =
+            "UPDATE events SET participant_count = participant_count + ? WHERE id = ?";
+
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
+    private final WaitingListRepository waitingListRepository;
+    private final UserRepository userRepository;
+    private final WaitingListService waitingListService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Map<Long, SeatLedger> ledgers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "registration-sequencer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public RegistrationSequencerImpl(
+            EventRepository eventRepository,
+            EventParticipationRepository participationRepository,
+            WaitingListRepository waitingListRepository,
+            UserRepository userRepository,
+            WaitingListService waitingListService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${registration.burst.batch-size:500}") int batchSize,
+            @Value("${registration.burst.flush-interval-ms:50}") long flushIntervalMs) {
+        this.eventRepository = eventRepository;
+        this.participationRepository = participationRepository;
+        this.waitingListRepository = waitingListRepository;
+        this.userRepository = userRepository;
+        this.waitingListService = waitingListService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        // Batch yazımları çağıranın işleminden bağımsız olarak commit edilir
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void startWriter() {
+        writer.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Uygulama yeniden başlatıldığında yoğun moddaki etkinliklerin defterlerini yükle
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveEvents() {
+        for (Event event : eventRepository.findByBurstModeTrue()) {
+            ledgers.put(event.getId(), loadLedger(event));
+        }
+    }
+
+    @PreDestroy
+    public void stopWriter() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Kapanmadan önce kuyrukta kalan kayıtları yaz
+        flushAll();
+    }
+
+    @Override
+    public boolean isActive(Long eventId) {
+        return ledgers.containsKey(eventId);
+    }
+
+    @Override
+    public EventParticipation.ParticipationStatus register(Long eventId, Long userId) {
+        SeatLedger ledger = ledgers.get(eventId);
+        if (ledger == null) {
+            return null;
+        }
+
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("Kullanıcı bulunamadı: " + userId);
+        }
+
+        return ledger.admit(userId);
+    }
+
+    @Override
+    public void release(Long eventId, Long userId) {
+        SeatLedger ledger = ledgers.get(eventId);
+        if (ledger != null) {
+            ledger.release(userId);
+        }
+    }
+
+    @Override
+    public void flush(Long eventId) {
+        SeatLedger ledger = ledgers.get(eventId);
+        if (ledger != null) {
+            flush(ledger);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void setBurstMode(Long eventId, boolean enabled) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("Etkinlik bulunamadı: " + eventId));
+
+        if (enabled) {
+            eventRepository.updateBurstMode(eventId, true);
+            // Defter commit sonrasında yüklenir: bayrak satır kilidini aldığında önündeki kayıtlar commit edilmiş
+            // olur, commit'ten sonra ise tryReserveSeat koltuk vermez; böylece anlık görüntü tüm koltukları içerir.
+            // İşlem geri alınırsa yoğun modda olmayan bir etkinlik için defter kalmaz.
+            afterCompletion(committed -> {
+                if (committed) {
+                    ledgers.computeIfAbsent(eventId, id -> loadLedger(event));
+                }
+            });
+        } else {
+            // Defter bayraktan önce kapatılıp boşaltılır: batch yazımı etkinlik satırını güncellediğinden
+            // bu işlem satırı kilitledikten sonra yapılırsa kendi kilidini bekler
+            SeatLedger ledger = ledgers.get(eventId);
+            if (ledger != null) {
+                ledger.close();
+                flush(ledger);
+            }
+            eventRepository.updateBurstMode(eventId, false);
+            if (ledger != null) {
+                // Geri alınırsa etkinlik yoğun modda kalır; defter (boşaltılmış ve güncel) yeniden açılır
+                afterCompletion(committed -> {
+                    if (committed) {
+                        ledgers.remove(eventId, ledger);
+                    } else {
+                        ledger.reopen();
+                    }
+                });
+            }
+        }
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
+
+    private SeatLedger loadLedger(Event event) {
+        return new SeatLedger(
+                event.getId(),
+                event.getEffectiveCapacity(),
+                !Boolean.FALSE.equals(event.getAllowWaitlist()),
+                new HashSet<>(participationRepository.findActiveUserIdsByEventId(event.getId())),
+                new HashSet<>(waitingListRepository.findWaitingUserIdsByEventId(event.getId())));
+    }
+
+    private void flushAll() {
+        for (SeatLedger ledger : ledgers.values()) {
+            try {
+                flush(ledger);
+            } catch (RuntimeException e) {
+                // Zamanlanmış görevin durmaması için hatayı yut
+                log.error("Yoğun kayıt kuyruğu yazılamadı. eventId={}", ledger.eventId, e);
+            }
+        }
+    }
+
+    private void flush(SeatLedger ledger) {
+        synchronized (ledger.flushLock) {
+            List<Long> batch;
+            boolean persisted = false;
+            while (!(batch = ledger.drainRegistrations(batchSize)).isEmpty()) {
+                persistRegistrations(ledger, batch);
+                persisted = true;
+            }
+            if (persisted) {
+                eventPublisher.publishEvent(new WaitlistStreamService.WaitlistChanged(ledger.eventId));
+            }
+
+            Long userId;
+            while ((userId = ledger.pendingWaitlist.poll()) != null) {
+                try {
+                    waitingListService.addToWaitingList(ledger.eventId, userId, null);
+                } catch (RuntimeException e) {
+                    log.warn("Bekleme listesine eklenemedi. eventId={}, userId={}: {}", ledger.eventId, userId, e.getMessage());
+                    ledger.forgetWaitlisted(userId);
+                }
+            }
+        }
+    }
+
+    private void persistRegistrations(SeatLedger ledger, List<Long> userIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(ledger.eventId, userIds));
+        } catch (RuntimeException e) {
+            // Batch başarısız olursa hatalı kaydı ayırmak için kayıtları tek tek dene
+            log.warn("Toplu kayıt yazılamadı, kayıtlar tek tek deneniyor. eventId={}", ledger.eventId, e);
+            for (Long userId : userIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertBatch(ledger.eventId, List.of(userId)));
+                } catch (RuntimeException ex) {
+                    log.error("Kayıt yazılamadı, koltuk serbest bırakıldı. eventId={}, userId={}", ledger.eventId, userId, ex);
+                    ledger.release(userId);
+                }
+            }
+        }
+    }
+
+    private void insertBatch(Long eventId, List<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> written = jdbcTemplate.query(UPSERT_PARTICIPATIONS_SQL, ps -> {
+            ps.setLong(1, eventId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setArray(5, ps.getConnection().createArrayOf("bigint", userIds.stream().distinct().toArray()));
+        }, (rs, rowNum) -> rs.getLong(1));
+
+        // Katılımcı sayacını satır başına değil batch başına bir kez güncelle
+        if (!written.isEmpty()) {
+            jdbcTemplate.update(INCREMENT_PARTICIPANT_COUNT_SQL, written.size(), eventId);
+        }
+    }
+
+    /**
+     * Bir etkinliğin bellekteki koltuk defteri ve yazma kuyrukları
+     */
+    private static final class SeatLedger {
+
+        private final Long eventId;
+        private final Integer capacity;
+        private final boolean allowWaitlist;
+        private final Set<Long> registeredUsers;
+        private final Set<Long> waitlistedUsers;
+        private final Queue<Long> pendingRegistrations = new ConcurrentLinkedQueue<>();
+        private final Queue<Long> pendingWaitlist = new ConcurrentLinkedQueue<>();
+        private final Object flushLock = new Object();
+        private boolean closed;
+
+        private SeatLedger(Long eventId, Integer capacity, boolean allowWaitlist,
+                           Set<Long> registeredUsers, Set<Long> waitlistedUsers) {
+            this.eventId = eventId;
+            this.capacity = capacity;
+            this.allowWaitlist = allowWaitlist;
+            this.registeredUsers = registeredUsers;
+            this.waitlistedUsers = waitlistedUsers;
+        }
+
+        synchronized EventParticipation.ParticipationStatus admit(Long userId) {
+            if (closed) {
+                return null;
+            }
+            if (registeredUsers.contains(userId)) {
+                return EventParticipation.ParticipationStatus.REGISTERED;
+            }
+            if (waitlistedUsers.contains(userId)) {
+                return EventParticipation.ParticipationStatus.WAITLISTED;
+            }
+
+            if (capacity == null || registeredUsers.size() < capacity) {
+                registeredUsers.add(userId);
+                pendingRegistrations.add(userId);
+                return EventParticipation.ParticipationStatus.REGISTERED;
+            }
+
+            if (!allowWaitlist) {
+                throw new IllegalStateException("Etkinlik kontenjanı dolu: " + eventId);
+            }
+            waitlistedUsers.add(userId);
+            pendingWaitlist.add(userId);
+            return EventParticipation.ParticipationStatus.WAITLISTED;
+        }
+
+        synchronized void release(Long userId) {
+            registeredUsers.remove(userId);
+        }
+
+        synchronized void forgetWaitlisted(Long userId) {
+            waitlistedUsers.remove(userId);
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        synchronized void reopen() {
+            closed = false;
+        }
+
+        List<Long> drainRegistrations(int max) {
+            List<Long> batch = new ArrayList<>();
+            Long userId;
+            while (batch.size() < max && (userId = pendingRegistrations.poll()) != null) {
+                batch.add(userId);
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.cmManagementSystem.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tek bir mekanın rezervasyon aralıkları için dengeli (AVL) aralık ağacı.
+ * Düğümler (başlangıç, rezervasyon ID) sırasına göre dizilir; her düğüm alt ağacındaki en büyük
+ * bitiş zamanını tutar, böylece çakışma sorguları O(log n + k) sürede yanıtlanır.
+ * Aralıklar yarı açıktır: [başlangıç, bitiş). Biri bittiği anda başlayan rezervasyonlar çakışmaz.
+ * Zamanlar epoch saniyesi olarak tutulur. Eşzamanlı erişim çağıran tarafından senkronize edilmelidir.
+ */
+final class ReservationIntervalTree {
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long id, long start, long end) {
+        root = insert(root, new Node(id, start, end));
+        size++;
+    }
+
+    boolean remove(long id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * [start, end) ile çakışan ilk rezervasyonun ID'sini döner, yoksa null
+     */
+    Long findAnyOverlap(long start, long end, Long excludeId) {
+        return findAnyOverlap(root, start, end, excludeId);
+    }
+
+    // Alt ağacın en büyük bitişi start'tan küçükse orada çakışma olamaz; düğüm başlangıcı end'i geçtiyse
+    // sağ alt ağaçta da olamaz. Sol alt ağaçta çakışma varsa ilk orada bulunur.
+    private static Long findAnyOverlap(Node node, long start, long end, Long excludeId) {
+        if (node == null || node.maxEnd <= start) {
+            return null;
+        }
+        Long found = findAnyOverlap(node.left, start, end, excludeId);
+        if (found != null) {
+            return found;
+        }
+        if (node.start < end && node.end > start && (excludeId == null || node.id != excludeId)) {
+            return node.id;
+        }
+        if (node.start >= end) {
+            return null;
+        }
+        return findAnyOverlap(node.right, start, end, excludeId);
+    }
+
+    /**
+     * [start, end) ile çakışan tüm aralıkları başlangıç sırasıyla döner
+     */
+    List<long[]> findOverlaps(long start, long end) {
+        List<long[]> result = new ArrayList<>();
+        collectOverlaps(root, start, end, result);
+        return result;
+    }
+
+    private static void collectOverlaps(Node node, long start, long end, List<long[]> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlaps(node.left, start, end, result);
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            result.add(new long[]{node.id, node.start, node.end});
+        }
+        collectOverlaps(node.right, start, end, result);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // İki çocuklu düğüm: sağ alt ağacın en küçüğü yerine geçer
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+
+        private final long id;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
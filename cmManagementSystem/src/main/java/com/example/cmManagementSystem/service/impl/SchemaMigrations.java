@@ -0,0 +1,72 @@
+package com.example.cmManagementSystem.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Şema değişikliği ve veri doldurma gibi tek seferlik açılış görevlerini çalıştırır.
+ * Uygulanan görevler schema_migrations tablosuna kaydedilir; sonraki açılışlarda tekrar çalışmaz.
+ * Görev, kontrol ve kayıt tek işlemde ve küresel bir advisory lock altında yapılır: birden fazla
+ * uygulama örneği aynı anda açılırsa görevi yalnızca biri uygular, diğerleri bekleyip atlar.
+ */
+@Component
+@Slf4j
+class SchemaMigrations {
+
+    // pg_advisory_xact_lock(namespace, 0): tüm tek seferlik görevler sırayla çalışır
+    private static final int MIGRATION_LOCK_NAMESPACE = 0x4D49_4752;
+    private static final String LOCK_MIGRATIONS_SQL = "SELECT pg_advisory_xact_lock(?, 0)";
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+            "version VARCHAR(100) PRIMARY KEY, applied_at TIMESTAMP NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    SchemaMigrations(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Görev daha önce uygulanmadıysa çalıştırır ve uygulandı olarak kaydeder. Görev hata verirse
+     * işlem geri alınır ve görev bir sonraki açılışta yeniden denenir.
+     *
+     * @param version Görevin benzersiz adı
+     * @param migration Görev (bu işlemin içinde çalışır)
+     * @return Görev bu çağrıda uygulandıysa true
+     */
+    boolean runOnce(String version, Runnable migration) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_MIGRATIONS_SQL, MIGRATION_LOCK_NAMESPACE);
+            jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM schema_migrations WHERE version = ?", Integer.class, version);
+            if (existing != null && existing > 0) {
+                return false;
+            }
+
+            migration.run();
+            jdbcTemplate.update("INSERT INTO schema_migrations (version, applied_at) VALUES (?, ?)",
+                    version, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(applied)) {
+            log.info("Tek seferlik açılış görevi uygulandı: {}", version);
+        }
+        return Boolean.TRUE.equals(applied);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.cmManagementSystem.service.impl;
 
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.PageCursor;
 import com.example.cmManagementSystem.dto.SponsorDto;
 import com.example.cmManagementSystem.entity.Club;
 import com.example.cmManagementSystem.entity.Event;
@@ -14,6 +16,7 @@ import com.example.cmManagementSystem.repository.UserRepository;
 import com.example.cmManagementSystem.service.SponsorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +42,23 @@ public class SponsorServiceImpl implements SponsorService {
                 .map(sponsorMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SponsorDto> findAllByCursor(String after, int size) {
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor cursor = PageCursor.decode(after);
+        
+        // Bir fazla kayıt çekilerek sonraki sayfanın varlığı COUNT sorgusu olmadan anlaşılır
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Sponsor> rows = cursor == null
+                ? sponsorRepository.findFirstPage(limit)
+                : sponsorRepository.findPageAfter(cursor.getId(), limit);
+        
+        // Özet dönüşüm lazy kulüp/etkinlik koleksiyonlarına dokunmaz: sayfa başına satır sayısı kadar ek sorgu olmaz
+        return CursorPage.of(rows, pageSize, sponsorMapper::toSummaryDto,
+                sponsor -> new PageCursor(null, sponsor.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<SponsorDto> findAll() {
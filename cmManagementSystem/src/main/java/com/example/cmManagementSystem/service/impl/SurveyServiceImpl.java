@@ -3,6 +3,7 @@ package com.example.cmManagementSystem.service.impl;
 import com.example.cmManagementSystem.dto.SurveyDto;
 import com.example.cmManagementSystem.dto.SurveyQuestionDto;
 import com.example.cmManagementSystem.dto.SurveyResponseDto;
+import com.example.cmManagementSystem.dto.SurveySubmissionDto;
 import com.example.cmManagementSystem.entity.Club;
 import com.example.cmManagementSystem.entity.Event;
 import com.example.cmManagementSystem.entity.Survey;
@@ -17,31 +18,82 @@ import com.example.cmManagementSystem.repository.SurveyRepository;
 import com.example.cmManagementSystem.repository.SurveyResponseRepository;
 import com.example.cmManagementSystem.repository.UserRepository;
 import com.example.cmManagementSystem.service.SurveyService;
+import com.example.cmManagementSystem.service.SurveyTallyService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @Transactional
 public class SurveyServiceImpl implements SurveyService {
     
+    static final String QUESTION_RULES_CACHE = "surveyQuestionRules";
+    
+    // Bir gönderimin tüm yanıtları tek komutla eklenir; yanıtlar soru ID'si ile eşleştirilir
+    // (bir gönderimde her soru en fazla bir kez yanıtlanabilir)
+    private static final String INSERT_SUBMISSION_SQL =
+            "INSERT INTO survey_responses (survey_id, user_id, anonymous_user_token, ip_address, user_agent, " +
+            "created_at, updated_at, question_id, response_text, response_value, selected_options) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, a.question_id, a.response_text, a.response_value, a.selected_options " +
+            "FROM unnest(?::bigint[], ?::varchar[], ?::integer[], ?::varchar[]) " +
+            "AS a(question_id, response_text, response_value, selected_options) " +
+            "RETURNING id, question_id";
+    
+    private static final String[] EXPORT_COLUMNS = {
+            "responseId", "questionId", "questionText", "userId", "userName", "anonymousUserToken",
+            "responseText", "responseValue", "selectedOptions", "createdAt"};
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    
+    // Analizde özet tablolarından okunan soru tipleri; diğer tiplerin metin yanıtları listelenir
+    private static final Set<SurveyQuestion.QuestionType> TALLIED_QUESTION_TYPES = EnumSet.of(
+            SurveyQuestion.QuestionType.SINGLE_CHOICE, SurveyQuestion.QuestionType.MULTIPLE_CHOICE,
+            SurveyQuestion.QuestionType.DROPDOWN, SurveyQuestion.QuestionType.RATING,
+            SurveyQuestion.QuestionType.SCALE, SurveyQuestion.QuestionType.NUMBER);
+    
     private final SurveyRepository surveyRepository;
     private final SurveyQuestionRepository questionRepository;
     private final SurveyResponseRepository responseRepository;
     private final ClubRepository clubRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final SurveyTallyService tallyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache questionRulesCache;
+    private final ObjectMapper objectMapper;
     private final ModelMapper modelMapper;
     
     @Autowired
@@ -52,6 +104,10 @@ public class SurveyServiceImpl implements SurveyService {
             ClubRepository clubRepository,
             EventRepository eventRepository,
             UserRepository userRepository,
+            SurveyTallyService tallyService,
+            JdbcTemplate jdbcTemplate,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
             ModelMapper modelMapper) {
         this.surveyRepository = surveyRepository;
         this.questionRepository = questionRepository;
@@ -59,6 +115,10 @@ public class SurveyServiceImpl implements SurveyService {
         this.clubRepository = clubRepository;
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
+        this.tallyService = tallyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.questionRulesCache = cacheManager.getCache(QUESTION_RULES_CACHE);
+        this.objectMapper = objectMapper;
         this.modelMapper = modelMapper;
     }
     
@@ -178,9 +238,11 @@ public class SurveyServiceImpl implements SurveyService {
         // Anketi bul
         Survey survey = surveyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Survey", "id", id));
+        evictQuestionRulesAfterCommit(id);
         
         // Anketi sil (ilişkili sorular ve yanıtlar da cascade ile silinecek)
         surveyRepository.delete(survey);
+        tallyService.deleteForSurvey(id);
     }
     
     @Override
@@ -189,6 +251,7 @@ public class SurveyServiceImpl implements SurveyService {
         // Anketi bul
         Survey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Survey", "id", surveyId));
+        evictQuestionRulesAfterCommit(surveyId);
         
         // Yeni soru oluştur
         SurveyQuestion question = new SurveyQuestion();
@@ -215,6 +278,9 @@ public class SurveyServiceImpl implements SurveyService {
         // Soruyu bul
         SurveyQuestion question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("SurveyQuestion", "id", questionId));
+        evictQuestionRulesAfterCommit(question.getSurvey().getId());
+        
+        boolean typeChanged = question.getQuestionType() != questionDto.getQuestionType();
         
         // Soruyu güncelle
         question.setQuestionText(questionDto.getQuestionText());
@@ -230,6 +296,13 @@ public class SurveyServiceImpl implements SurveyService {
         // Soruyu kaydet
         SurveyQuestion updatedQuestion = questionRepository.save(question);
         
+        // Tür değişince özetlerin biçimi de değişir (ör. TEXT → RATING histogramı); özetler yeni türle
+        // yeniden hesaplanır. rebuild kendi işleminde çalıştığından yeni tür commit edildikten sonra çağrılır.
+        if (typeChanged) {
+            Long surveyId = updatedQuestion.getSurvey().getId();
+            afterCommit(() -> tallyService.rebuild(surveyId));
+        }
+        
         return mapToQuestionDto(updatedQuestion);
     }
     
@@ -239,9 +312,11 @@ public class SurveyServiceImpl implements SurveyService {
         // Soruyu bul
         SurveyQuestion question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("SurveyQuestion", "id", questionId));
+        evictQuestionRulesAfterCommit(question.getSurvey().getId());
         
         // Soruyu sil (ilişkili yanıtlar da cascade ile silinecek)
         questionRepository.delete(question);
+        tallyService.deleteForQuestion(questionId);
     }
     
     @Override
@@ -281,13 +356,145 @@ public class SurveyServiceImpl implements SurveyService {
         // Yanıtı kaydet
         SurveyResponse savedResponse = responseRepository.save(response);
         
+        // Sonuç özetlerini aynı işlemde güncelle
+        tallyService.recordResponses(surveyId, List.of(savedResponse));
+        
         // Anketin yanıt sayısını güncelle
-        survey.setResponseCount(survey.getResponseCount() + 1);
-        surveyRepository.save(survey);
+        surveyRepository.incrementResponseCount(surveyId, 1);
         
         return mapToResponseDto(savedResponse);
     }
     
+    @Override
+    @Transactional
+    public List<SurveyResponseDto> submitAll(Long surveyId, SurveySubmissionDto submissionDto) {
+        if (!surveyRepository.existsById(surveyId)) {
+            throw new ResourceNotFoundException("Survey", "id", surveyId);
+        }
+        if (submissionDto.getUserId() != null && !userRepository.existsById(submissionDto.getUserId())) {
+            throw new ResourceNotFoundException("User", "id", submissionDto.getUserId());
+        }
+        
+        // Yanıtlar önbellekteki soru kurallarına göre doğrulanır; sorular ve anket satırı yüklenmez
+        Map<Long, QuestionRule> rules = getQuestionRules(surveyId);
+        Map<Long, SurveySubmissionDto.Answer> answers = new LinkedHashMap<>();
+        for (SurveySubmissionDto.Answer answer : submissionDto.getAnswers()) {
+            QuestionRule rule = rules.get(answer.getQuestionId());
+            if (rule == null) {
+                throw new IllegalArgumentException("Soru verilen ankete ait değil: " + answer.getQuestionId());
+            }
+            if (answers.putIfAbsent(answer.getQuestionId(), answer) != null) {
+                throw new IllegalArgumentException("Soru birden fazla kez yanıtlandı: " + answer.getQuestionId());
+            }
+            rule.validate(answer);
+        }
+        for (QuestionRule rule : rules.values()) {
+            SurveySubmissionDto.Answer answer = answers.get(rule.id());
+            if (rule.required() && (answer == null || isBlank(answer))) {
+                throw new IllegalArgumentException("Zorunlu soru yanıtlanmadı: " + rule.id());
+            }
+        }
+        
+        // Boş yanıtlar kaydedilmez
+        List<SurveySubmissionDto.Answer> filled = answers.values().stream()
+                .filter(answer -> !isBlank(answer))
+                .collect(Collectors.toList());
+        if (filled.isEmpty()) {
+            return List.of();
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        String anonymousToken = submissionDto.getUserId() == null ? submissionDto.getAnonymousUserToken() : null;
+        Map<Long, Long> idsByQuestion = insertSubmission(surveyId, submissionDto, anonymousToken, now, filled);
+        
+        // Sayaç tek komutla artırılır (yanıt başına bir)
+        surveyRepository.incrementResponseCount(surveyId, filled.size());
+        
+        List<SurveyResponse> saved = new ArrayList<>(filled.size());
+        List<SurveyResponseDto> result = new ArrayList<>(filled.size());
+        for (SurveySubmissionDto.Answer answer : filled) {
+            QuestionRule rule = rules.get(answer.getQuestionId());
+            SurveyQuestion question = SurveyQuestion.builder()
+                    .id(rule.id())
+                    .questionType(rule.type())
+                    .build();
+            saved.add(SurveyResponse.builder()
+                    .id(idsByQuestion.get(answer.getQuestionId()))
+                    .question(question)
+                    .responseText(answer.getResponseText())
+                    .responseValue(answer.getResponseValue())
+                    .selectedOptions(answer.getSelectedOptions())
+                    .build());
+            result.add(SurveyResponseDto.builder()
+                    .id(idsByQuestion.get(answer.getQuestionId()))
+                    .surveyId(surveyId)
+                    .questionId(answer.getQuestionId())
+                    .userId(submissionDto.getUserId())
+                    .anonymousUserToken(anonymousToken)
+                    .responseText(answer.getResponseText())
+                    .responseValue(answer.getResponseValue())
+                    .selectedOptions(answer.getSelectedOptions())
+                    .ipAddress(submissionDto.getIpAddress())
+                    .userAgent(submissionDto.getUserAgent())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        
+        // Sonuç özetlerini aynı işlemde, tek seferde güncelle
+        tallyService.recordResponses(surveyId, saved);
+        
+        return result;
+    }
+    
+    private Map<Long, Long> insertSubmission(Long surveyId, SurveySubmissionDto submissionDto, String anonymousToken,
+                                             LocalDateTime now, List<SurveySubmissionDto.Answer> answers) {
+        Long[] questionIds = new Long[answers.size()];
+        String[] texts = new String[answers.size()];
+        Integer[] values = new Integer[answers.size()];
+        String[] options = new String[answers.size()];
+        for (int i = 0; i < answers.size(); i++) {
+            questionIds[i] = answers.get(i).getQuestionId();
+            texts[i] = answers.get(i).getResponseText();
+            values[i] = answers.get(i).getResponseValue();
+            options[i] = answers.get(i).getSelectedOptions();
+        }
+        
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Map<Long, Long> idsByQuestion = new HashMap<>();
+        jdbcTemplate.query(INSERT_SUBMISSION_SQL, ps -> {
+            ps.setLong(1, surveyId);
+            ps.setObject(2, submissionDto.getUserId(), Types.BIGINT);
+            ps.setString(3, anonymousToken);
+            ps.setString(4, submissionDto.getIpAddress());
+            ps.setString(5, submissionDto.getUserAgent());
+            ps.setTimestamp(6, timestamp);
+            ps.setTimestamp(7, timestamp);
+            ps.setArray(8, ps.getConnection().createArrayOf("bigint", questionIds));
+            ps.setArray(9, ps.getConnection().createArrayOf("varchar", texts));
+            ps.setArray(10, ps.getConnection().createArrayOf("integer", values));
+            ps.setArray(11, ps.getConnection().createArrayOf("varchar", options));
+        }, (RowCallbackHandler) rs -> idsByQuestion.put(rs.getLong(2), rs.getLong(1)));
+        return idsByQuestion;
+    }
+    
+    // Anketin soru kuralları; soru eklenince/güncellenince/silinince önbellekten çıkarılır
+    private Map<Long, QuestionRule> getQuestionRules(Long surveyId) {
+        return questionRulesCache.get(surveyId, () -> {
+            Map<Long, QuestionRule> rules = new LinkedHashMap<>();
+            for (SurveyQuestion question : questionRepository.findBySurveyIdOrderByOrderIndexAsc(surveyId)) {
+                rules.put(question.getId(), QuestionRule.of(question));
+            }
+            return Collections.unmodifiableMap(rules);
+        });
+    }
+    
+    private static boolean isBlank(SurveySubmissionDto.Answer answer) {
+        return answer.getResponseValue() == null
+                && (answer.getResponseText() == null || answer.getResponseText().isBlank())
+                && (answer.getSelectedOptions() == null || answer.getSelectedOptions().isBlank());
+    }
+    
     @Override
     public List<SurveyResponseDto> getResponses(Long surveyId) {
         // Anketi bul
@@ -302,14 +509,85 @@ public class SurveyServiceImpl implements SurveyService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public void exportResponses(Long surveyId, ExportFormat format, OutputStream out) throws IOException {
+        if (!surveyRepository.existsById(surveyId)) {
+            throw new ResourceNotFoundException("Survey", "id", surveyId);
+        }
+        
+        // Satırlar imleçten okundukça yazılır; yanıt listesi veya DTO'lar bellekte biriktirilmez
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        try (Stream<Object[]> rows = responseRepository.streamExportRowsBySurveyId(surveyId)) {
+            if (format == ExportFormat.NDJSON) {
+                writeNdjson(rows.iterator(), writer);
+            } else {
+                writeCsv(rows.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+    
+    private static void writeCsv(Iterator<Object[]> rows, Writer writer) throws IOException {
+        writer.write(String.join(",", EXPORT_COLUMNS));
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (row[i] != null) {
+                    writeCsvValue(row[i].toString(), writer);
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+    
+    // RFC 4180: virgül, tırnak veya satır sonu içeren değerler tırnak içine alınır, tırnaklar ikilenir
+    private static void writeCsvValue(String value, Writer writer) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    private void writeNdjson(Iterator<Object[]> rows, Writer writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            // Çıkış akışını kapatmak servlet konteynerine bırakılır
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Kök nesneler arasına boşluk yerine yalnızca satır sonu yazılır
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                generator.writeStartObject();
+                for (int i = 0; i < row.length; i++) {
+                    Object value = row[i];
+                    if (value instanceof Number number) {
+                        generator.writeNumberField(EXPORT_COLUMNS[i], number.longValue());
+                    } else {
+                        generator.writeStringField(EXPORT_COLUMNS[i], value != null ? value.toString() : null);
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+    
     @Override
     public Map<String, Object> analyzeResults(Long surveyId) {
         // Anketi bul
         Survey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Survey", "id", surveyId));
         
-        // Sorulara göre yanıtları gruplandır
-        List<SurveyQuestion> questions = new ArrayList<>(survey.getQuestions());
+        // Sorular yanıtları yüklenmeden okunur; sayısal ve seçimli sorular özet tablolarından analiz edilir
+        List<SurveyQuestion> questions = questionRepository.findBySurveyIdOrderByOrderIndexAsc(surveyId);
+        Map<Long, SurveyTallyService.QuestionTally> tallies = tallyService.getTallies(surveyId);
         Map<String, Object> results = new HashMap<>();
         
         // Genel istatistikler
@@ -317,6 +595,14 @@ public class SurveyServiceImpl implements SurveyService {
         results.put("totalResponses", survey.getResponseCount());
         results.put("questionCount", questions.size());
         
+        // Metin yanıtları tüm anket için tek sorguda okunur
+        Map<Long, List<String>> textResponsesByQuestion = new HashMap<>();
+        if (questions.stream().anyMatch(question -> !TALLIED_QUESTION_TYPES.contains(question.getQuestionType()))) {
+            for (Object[] row : responseRepository.findTextResponsesBySurveyId(surveyId, TALLIED_QUESTION_TYPES)) {
+                textResponsesByQuestion.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        
         // Her soru için analiz bilgisi oluştur
         List<Map<String, Object>> questionResults = new ArrayList<>();
         
@@ -326,60 +612,37 @@ public class SurveyServiceImpl implements SurveyService {
             questionResult.put("questionText", question.getQuestionText());
             questionResult.put("questionType", question.getQuestionType());
             
-            // Soruya özel analiz
-            List<SurveyResponse> questionResponses = responseRepository.findByQuestionId(question.getId());
+            // Soruya özel analiz (yanıtı olmayan sorunun özeti yoktur)
+            SurveyTallyService.QuestionTally tally = tallies.get(question.getId());
             
             switch (question.getQuestionType()) {
                 case SINGLE_CHOICE, MULTIPLE_CHOICE, DROPDOWN -> {
                     // Seçimler için frekans dağılımı
-                    Map<String, Integer> optionFrequency = new HashMap<>();
-                    
-                    for (SurveyResponse response : questionResponses) {
-                        if (response.getSelectedOptions() != null) {
-                            String[] options = response.getSelectedOptions().split(",");
-                            for (String option : options) {
-                                optionFrequency.put(option.trim(), optionFrequency.getOrDefault(option.trim(), 0) + 1);
-                            }
-                        }
-                    }
-                    
-                    questionResult.put("optionFrequency", optionFrequency);
-                    questionResult.put("responseCount", questionResponses.size());
+                    questionResult.put("optionFrequency", tally != null ? tally.optionCounts() : Map.of());
+                    questionResult.put("responseCount", tally != null ? tally.responseCount() : 0L);
                 }
                 case RATING, SCALE, NUMBER -> {
                     // Sayısal değerler için istatistikler
-                    double sum = 0;
-                    double min = Double.MAX_VALUE;
-                    double max = Double.MIN_VALUE;
-                    int count = 0;
-                    
-                    for (SurveyResponse response : questionResponses) {
-                        if (response.getResponseValue() != null) {
-                            sum += response.getResponseValue();
-                            min = Math.min(min, response.getResponseValue());
-                            max = Math.max(max, response.getResponseValue());
-                            count++;
-                        }
-                    }
-                    
-                    double average = count > 0 ? sum / count : 0;
+                    long count = tally != null ? tally.valueCount() : 0L;
+                    long sum = tally != null ? tally.valueSum() : 0L;
                     
-                    questionResult.put("averageValue", average);
-                    questionResult.put("minValue", count > 0 ? min : null);
-                    questionResult.put("maxValue", count > 0 ? max : null);
+                    questionResult.put("averageValue", count > 0 ? (double) sum / count : 0);
+                    questionResult.put("sumValue", sum);
+                    questionResult.put("minValue", count > 0 ? tally.valueMin().doubleValue() : null);
+                    questionResult.put("maxValue", count > 0 ? tally.valueMax().doubleValue() : null);
                     questionResult.put("responseCount", count);
+                    if (question.getQuestionType() != SurveyQuestion.QuestionType.NUMBER) {
+                        questionResult.put("valueHistogram", tally != null ? tally.valueHistogram() : Map.of());
+                    }
                 }
                 default -> {
                     // Metin yanıtları için temel bilgiler
-                    questionResult.put("responseCount", questionResponses.size());
+                    long responseCount = tally != null ? tally.responseCount() : 0L;
+                    questionResult.put("responseCount", responseCount);
                     
                     // Metin yanıtlarının listesini ekle (opsiyonel)
-                    if (questionResponses.size() > 0) {
-                        List<String> textResponses = questionResponses.stream()
-                                .filter(r -> r.getResponseText() != null && !r.getResponseText().isEmpty())
-                                .map(SurveyResponse::getResponseText)
-                                .collect(Collectors.toList());
-                        questionResult.put("textResponses", textResponses);
+                    if (responseCount > 0) {
+                        questionResult.put("textResponses", textResponsesByQuestion.getOrDefault(question.getId(), List.of()));
                     }
                 }
             }
@@ -408,6 +671,25 @@ public class SurveyServiceImpl implements SurveyService {
         return question.getSurvey().getCreatedBy().getId().equals(userId);
     }
     
+    // Soru kuralları commit sonrasında önbellekten çıkarılır; commit öncesi çıkarılırsa eşzamanlı bir gönderim
+    // eski soru kümesini yeniden önbelleğe alabilir ve süre sınırı olmadığından bu değer kalıcı olur
+    private void evictQuestionRulesAfterCommit(Long surveyId) {
+        afterCommit(() -> questionRulesCache.evict(surveyId));
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
     // Entity'den DTO'ya dönüşüm metodları
     private SurveyDto mapToSurveyDto(Survey survey) {
         SurveyDto dto = modelMapper.map(survey, SurveyDto.class);
@@ -457,4 +739,33 @@ public class SurveyServiceImpl implements SurveyService {
         
         return dto;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Yanıt doğrulaması için sorunun önbelleğe alınan değişmez kopyası
+     */
+    private record QuestionRule(Long id, SurveyQuestion.QuestionType type, boolean required,
+                                Integer minValue, Integer maxValue, Pattern validation) {
+        
+        static QuestionRule of(SurveyQuestion question) {
+            String regex = question.getValidationRegex();
+            return new QuestionRule(
+                    question.getId(),
+                    question.getQuestionType(),
+                    Boolean.TRUE.equals(question.getIsRequired()),
+                    question.getMinValue(),
+                    question.getMaxValue(),
+                    regex == null || regex.isBlank() ? null : Pattern.compile(regex));
+        }
+        
+        void validate(SurveySubmissionDto.Answer answer) {
+            Integer value = answer.getResponseValue();
+            if (value != null && ((minValue != null && value < minValue) || (maxValue != null && value > maxValue))) {
+                throw new IllegalArgumentException("Yanıt değeri izin verilen aralığın dışında: " + id);
+            }
+            String text = answer.getResponseText();
+            if (validation != null && text != null && !text.isEmpty() && !validation.matcher(text).matches()) {
+                throw new IllegalArgumentException("Yanıt biçimi geçersiz: " + id);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,291 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.entity.SurveyQuestion;
+import com.example.cmManagementSystem.entity.SurveyQuestionTally;
+import com.example.cmManagementSystem.entity.SurveyResponse;
+import com.example.cmManagementSystem.entity.SurveyTallyBucket;
+import com.example.cmManagementSystem.repository.SurveyQuestionTallyRepository;
+import com.example.cmManagementSystem.repository.SurveyRepository;
+import com.example.cmManagementSystem.repository.SurveyTallyBucketRepository;
+import com.example.cmManagementSystem.service.SurveyTallyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Slf4j
+public class SurveyTallyServiceImpl implements SurveyTallyService {
+
+    // pg_advisory_xact_lock(namespace, survey_id): yanıt kayıtları paylaşımlı kilitle birbirini beklemez,
+    // yeniden hesaplama özel kilitle aynı anketin yanıt kayıtlarını bekletir
+    private static final int SURVEY_LOCK_NAMESPACE = 0x5355_5256;
+    private static final String LOCK_SURVEY_SHARED_SQL = "SELECT pg_advisory_xact_lock_shared(?, ?)";
+    private static final String LOCK_SURVEY_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    // Sayaçlar satır içinde artırılır; eşzamanlı yanıtlar birbirinin artışını ezmez
+    private static final String UPSERT_QUESTION_SQL =
+            "INSERT INTO survey_question_tallies AS t (question_id, survey_id, response_count, value_count, " +
+            "value_sum, value_min, value_max, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (question_id) DO UPDATE SET " +
+            "response_count = t.response_count + EXCLUDED.response_count, " +
+            "value_count = t.value_count + EXCLUDED.value_count, " +
+            "value_sum = t.value_sum + EXCLUDED.value_sum, " +
+            "value_min = LEAST(t.value_min, EXCLUDED.value_min), " +
+            "value_max = GREATEST(t.value_max, EXCLUDED.value_max), " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_BUCKET_SQL =
+            "INSERT INTO survey_tally_buckets AS b (question_id, survey_id, kind, bucket_key, bucket_count) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (question_id, kind, bucket_key) DO UPDATE SET bucket_count = b.bucket_count + EXCLUDED.bucket_count";
+
+    private static final String REBUILD_QUESTIONS_SQL =
+            "INSERT INTO survey_question_tallies (question_id, survey_id, response_count, value_count, " +
+            "value_sum, value_min, value_max, updated_at) " +
+            "SELECT r.question_id, r.survey_id, COUNT(*), COUNT(r.response_value), COALESCE(SUM(r.response_value), 0), " +
+            "MIN(r.response_value), MAX(r.response_value), ? " +
+            "FROM survey_responses r WHERE r.survey_id = ? GROUP BY r.question_id, r.survey_id";
+
+    // Seçenekler yanıt kaydındaki ayrıştırmayla aynı kurala göre (virgülle bölünüp kırpılarak) sayılır
+    private static final String REBUILD_OPTIONS_SQL =
+            "INSERT INTO survey_tally_buckets (question_id, survey_id, kind, bucket_key, bucket_count) " +
+            "SELECT r.question_id, r.survey_id, 'OPTION', TRIM(o.opt), COUNT(*) " +
+            "FROM survey_responses r CROSS JOIN LATERAL unnest(string_to_array(r.selected_options, ',')) AS o(opt) " +
+            "WHERE r.survey_id = ? AND TRIM(o.opt) <> '' " +
+            "GROUP BY r.question_id, r.survey_id, TRIM(o.opt)";
+
+    private static final String REBUILD_HISTOGRAM_SQL =
+            "INSERT INTO survey_tally_buckets (question_id, survey_id, kind, bucket_key, bucket_count) " +
+            "SELECT r.question_id, r.survey_id, 'VALUE', CAST(r.response_value AS varchar), COUNT(*) " +
+            "FROM survey_responses r JOIN survey_questions q ON q.id = r.question_id " +
+            "WHERE r.survey_id = ? AND r.response_value IS NOT NULL AND q.question_type IN ('RATING', 'SCALE') " +
+            "GROUP BY r.question_id, r.survey_id, r.response_value";
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyQuestionTallyRepository questionTallyRepository;
+    private final SurveyTallyBucketRepository bucketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildEnabled;
+
+    @Autowired
+    public SurveyTallyServiceImpl(
+            SurveyRepository surveyRepository,
+            SurveyQuestionTallyRepository questionTallyRepository,
+            SurveyTallyBucketRepository bucketRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${survey.tally.rebuild-enabled:true}") boolean rebuildEnabled) {
+        this.surveyRepository = surveyRepository;
+        this.questionTallyRepository = questionTallyRepository;
+        this.bucketRepository = bucketRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildEnabled = rebuildEnabled;
+
+        // Her anket kendi işleminde yeniden hesaplanır
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Özet tabloları eklenmeden önce yanıt almış anketler başlangıçta bir kez hesaplanır
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingTallies() {
+        List<Long> surveyIds = questionTallyRepository.findSurveyIdsWithMissingTallies();
+        surveyIds.forEach(this::rebuild);
+        if (!surveyIds.isEmpty()) {
+            log.info("{} anketin sonuç özetleri ham yanıtlardan oluşturuldu", surveyIds.size());
+        }
+    }
+
+    @Scheduled(cron = "${survey.tally.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (rebuildEnabled) {
+            rebuildAll();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordResponses(Long surveyId, List<SurveyResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        // Yanıtlar önce bellekte soru ve kova bazında toplanır; satırlar sabit sırayla güncellenir
+        // (eşzamanlı kayıtlar aynı satırları farklı sırada kilitleyip kilitlenmeye girmez)
+        Map<Long, QuestionDelta> questionDeltas = new TreeMap<>();
+        Map<BucketKey, Long> bucketDeltas = new TreeMap<>();
+        for (SurveyResponse response : responses) {
+            SurveyQuestion question = response.getQuestion();
+            QuestionDelta delta = questionDeltas.computeIfAbsent(question.getId(), id -> new QuestionDelta());
+            delta.responseCount++;
+
+            Integer value = response.getResponseValue();
+            if (value != null) {
+                delta.valueCount++;
+                delta.valueSum += value;
+                delta.valueMin = delta.valueMin == null ? value : Math.min(delta.valueMin, value);
+                delta.valueMax = delta.valueMax == null ? value : Math.max(delta.valueMax, value);
+                if (question.getQuestionType() == SurveyQuestion.QuestionType.RATING
+                        || question.getQuestionType() == SurveyQuestion.QuestionType.SCALE) {
+                    bucketDeltas.merge(new BucketKey(question.getId(), SurveyTallyBucket.Kind.VALUE, value.toString()), 1L, Long::sum);
+                }
+            }
+
+            for (String option : splitOptions(response.getSelectedOptions())) {
+                bucketDeltas.merge(new BucketKey(question.getId(), SurveyTallyBucket.Kind.OPTION, option), 1L, Long::sum);
+            }
+        }
+
+        jdbcTemplate.queryForList(LOCK_SURVEY_SHARED_SQL, SURVEY_LOCK_NAMESPACE, surveyId.intValue());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, QuestionDelta>> questions = new ArrayList<>(questionDeltas.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_QUESTION_SQL, questions, questions.size(), (ps, entry) -> {
+            QuestionDelta delta = entry.getValue();
+            ps.setLong(1, entry.getKey());
+            ps.setLong(2, surveyId);
+            ps.setLong(3, delta.responseCount);
+            ps.setLong(4, delta.valueCount);
+            ps.setLong(5, delta.valueSum);
+            ps.setObject(6, delta.valueMin, Types.INTEGER);
+            ps.setObject(7, delta.valueMax, Types.INTEGER);
+            ps.setTimestamp(8, now);
+        });
+
+        if (!bucketDeltas.isEmpty()) {
+            List<Map.Entry<BucketKey, Long>> buckets = new ArrayList<>(bucketDeltas.entrySet());
+            jdbcTemplate.batchUpdate(UPSERT_BUCKET_SQL, buckets, buckets.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getKey().questionId());
+                ps.setLong(2, surveyId);
+                ps.setString(3, entry.getKey().kind().name());
+                ps.setString(4, entry.getKey().key());
+                ps.setLong(5, entry.getValue());
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, QuestionTally> getTallies(Long surveyId) {
+        Map<Long, Map<String, Long>> options = new HashMap<>();
+        Map<Long, Map<String, Long>> histograms = new HashMap<>();
+        for (SurveyTallyBucket bucket : bucketRepository.findBySurveyId(surveyId)) {
+            Map<Long, Map<String, Long>> target = bucket.getKind() == SurveyTallyBucket.Kind.OPTION ? options : histograms;
+            target.computeIfAbsent(bucket.getQuestionId(), id -> new LinkedHashMap<>())
+                    .put(bucket.getBucketKey(), bucket.getCount());
+        }
+
+        Map<Long, QuestionTally> tallies = new HashMap<>();
+        for (SurveyQuestionTally tally : questionTallyRepository.findBySurveyId(surveyId)) {
+            tallies.put(tally.getQuestionId(), new QuestionTally(
+                    tally.getResponseCount(),
+                    tally.getValueCount(),
+                    tally.getValueSum(),
+                    tally.getValueMin(),
+                    tally.getValueMax(),
+                    options.getOrDefault(tally.getQuestionId(), Map.of()),
+                    histograms.getOrDefault(tally.getQuestionId(), Map.of())));
+        }
+        return tallies;
+    }
+
+    @Override
+    @Transactional
+    public void deleteForSurvey(Long surveyId) {
+        questionTallyRepository.deleteBySurveyId(surveyId);
+        bucketRepository.deleteBySurveyId(surveyId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteForQuestion(Long questionId) {
+        questionTallyRepository.deleteByQuestionId(questionId);
+        bucketRepository.deleteByQuestionId(questionId);
+    }
+
+    @Override
+    public void rebuild(Long surveyId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(LOCK_SURVEY_SQL, SURVEY_LOCK_NAMESPACE, surveyId.intValue());
+
+            jdbcTemplate.update("DELETE FROM survey_question_tallies WHERE survey_id = ?", surveyId);
+            jdbcTemplate.update("DELETE FROM survey_tally_buckets WHERE survey_id = ?", surveyId);
+            jdbcTemplate.update(REBUILD_QUESTIONS_SQL, Timestamp.valueOf(LocalDateTime.now()), surveyId);
+            jdbcTemplate.update(REBUILD_OPTIONS_SQL, surveyId);
+            jdbcTemplate.update(REBUILD_HISTOGRAM_SQL, surveyId);
+        });
+    }
+
+    @Override
+    public int rebuildAll() {
+        List<Long> surveyIds = surveyRepository.findAllIds();
+        for (Long surveyId : surveyIds) {
+            try {
+                rebuild(surveyId);
+            } catch (RuntimeException e) {
+                log.warn("Anket sonuç özeti yeniden hesaplanamadı. surveyId={}", surveyId, e);
+            }
+        }
+        log.info("{} anketin sonuç özetleri yeniden hesaplandı", surveyIds.size());
+        return surveyIds.size();
+    }
+
+    // Seçilen seçenekler virgülle ayrılmış olarak saklanır
+    private static List<String> splitOptions(String selectedOptions) {
+        List<String> options = new ArrayList<>();
+        if (selectedOptions == null) {
+            return options;
+        }
+        for (String option : selectedOptions.split(",")) {
+            String trimmed = option.trim();
+            if (!trimmed.isEmpty()) {
+                options.add(trimmed);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Bir sorunun bu kayıttaki artışları
+     */
+    private static final class QuestionDelta {
+
+        private long responseCount;
+        private long valueCount;
+        private long valueSum;
+        private Integer valueMin;
+        private Integer valueMax;
+    }
+
+    private record BucketKey(Long questionId, SurveyTallyBucket.Kind kind, String key) implements Comparable<BucketKey> {
+
+        @Override
+        public int compareTo(BucketKey other) {
+            int cmp = questionId.compareTo(other.questionId);
+            if (cmp == 0) {
+                cmp = kind.compareTo(other.kind);
+            }
+            return cmp != 0 ? cmp : key.compareTo(other.key);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.cmManagementSystem.service.impl;
 
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.PageCursor;
 import com.example.cmManagementSystem.dto.TransactionDto;
 import com.example.cmManagementSystem.entity.Budget;
 import com.example.cmManagementSystem.entity.Club;
@@ -17,6 +19,7 @@ import com.example.cmManagementSystem.service.TransactionService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +64,21 @@ public class TransactionServiceImpl implements TransactionService {
                 .map(transactionMapper::toDto);
     }
 
+    @Override
+    public CursorPage<TransactionDto> findAllByCursor(Long clubId, String after, int size) {
+        int pageSize = CursorPage.boundedSize(size);
+        PageCursor cursor = PageCursor.decode(after);
+        
+        // Bir fazla kayıt çekilerek sonraki sayfanın varlığı COUNT sorgusu olmadan anlaşılır
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Transaction> rows = cursor == null
+                ? transactionRepository.findFirstPage(clubId, limit)
+                : transactionRepository.findPageAfter(clubId, cursor.getSortValue(), cursor.getId(), limit);
+        
+        return CursorPage.of(rows, pageSize, transactionMapper::toDto,
+                transaction -> new PageCursor(transaction.getTransactionDate(), transaction.getId()));
+    }
+
     @Override
     public TransactionDto findById(Long id) {
         Transaction transaction = transactionRepository.findById(id)
@@ -0,0 +1,382 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.dto.TimeSlotDto;
+import com.example.cmManagementSystem.entity.VenueReservation;
+import com.example.cmManagementSystem.repository.VenueReservationRepository;
+import com.example.cmManagementSystem.service.VenueAvailabilityIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Slf4j
+public class VenueAvailabilityIndexImpl implements VenueAvailabilityIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final VenueReservationRepository reservationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private IndexState state = new IndexState();
+    // Yeniden oluşturma sürerken gelen değişiklikler (null değer = silme); yeni indekse tekrar uygulanır
+    private Map<Long, Entry> rebuildJournal;
+
+    @Autowired
+    public VenueAvailabilityIndexImpl(VenueReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuild();
+    }
+
+    @Override
+    public void put(VenueReservation reservation) {
+        if (reservation == null || reservation.getId() == null) {
+            return;
+        }
+
+        // Alanlar çağıran işlem içindeyken okunur, indeks commit sonrası güncellenir
+        Long reservationId = reservation.getId();
+        Entry entry = isActive(reservation.getStatus())
+                ? new Entry(reservation.getVenue().getId(), toSeconds(reservation.getStartTime()),
+                        toSeconds(reservation.getEndTime()), reservation.getStatus())
+                : null;
+        afterCommit(() -> apply(reservationId, entry));
+    }
+
+    @Override
+    public void remove(Long reservationId) {
+        afterCommit(() -> apply(reservationId, null));
+    }
+
+    @Override
+    public void removeVenue(Long venueId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                ReservationIntervalTree tree = state.trees.get(venueId);
+                if (tree == null) {
+                    return;
+                }
+                List<Long> reservationIds = new ArrayList<>();
+                for (long[] interval : tree.findOverlaps(Long.MIN_VALUE, Long.MAX_VALUE)) {
+                    reservationIds.add(interval[0]);
+                }
+                for (Long reservationId : reservationIds) {
+                    state.apply(reservationId, null);
+                    if (rebuildJournal != null) {
+                        rebuildJournal.put(reservationId, null);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public Long findConflict(Long venueId, LocalDateTime startTime, LocalDateTime endTime, Long excludeReservationId) {
+        lock.readLock().lock();
+        try {
+            ReservationIntervalTree tree = state.trees.get(venueId);
+            return tree == null ? null
+                    : tree.findAnyOverlap(toSeconds(startTime), toSeconds(endTime), excludeReservationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findConflicts(Long venueId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<long[]> overlaps = findOverlaps(venueId, toSeconds(startTime), toSeconds(endTime));
+        List<Long> reservationIds = new ArrayList<>(overlaps.size());
+        for (long[] interval : overlaps) {
+            reservationIds.add(interval[0]);
+        }
+        return reservationIds;
+    }
+
+    @Override
+    public List<Long> filterAvailable(Collection<Long> venueIds, LocalDateTime startTime, LocalDateTime endTime) {
+        long start = toSeconds(startTime);
+        long end = toSeconds(endTime);
+        List<Long> available = new ArrayList<>(venueIds.size());
+        lock.readLock().lock();
+        try {
+            for (Long venueId : venueIds) {
+                ReservationIntervalTree tree = state.trees.get(venueId);
+                if (tree == null || tree.findAnyOverlap(start, end, null) == null) {
+                    available.add(venueId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return available;
+    }
+
+    @Override
+    public List<TimeSlotDto> findFreeSlots(Long venueId, LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        long windowStart = toSeconds(from);
+        long windowEnd = toSeconds(to);
+        long minSeconds = Math.max(minDuration.getSeconds(), 1L);
+
+        // Çakışan aralıklar başlangıç sırasıyla geldiğinden boşluklar tek geçişte bulunur
+        List<TimeSlotDto> slots = new ArrayList<>();
+        long cursor = windowStart;
+        for (long[] interval : findOverlaps(venueId, windowStart, windowEnd)) {
+            if (interval[1] - cursor >= minSeconds) {
+                slots.add(toSlot(cursor, interval[1]));
+            }
+            cursor = Math.max(cursor, interval[2]);
+        }
+        if (windowEnd - cursor >= minSeconds) {
+            slots.add(toSlot(cursor, windowEnd));
+        }
+        return slots;
+    }
+
+    @Override
+    public int countUpcoming(Long venueId, LocalDateTime now) {
+        long nowSeconds = toSeconds(now);
+        lock.readLock().lock();
+        try {
+            ReservationIntervalTree tree = state.trees.get(venueId);
+            if (tree == null) {
+                return 0;
+            }
+            int count = 0;
+            for (long[] interval : tree.findOverlaps(nowSeconds, Long.MAX_VALUE)) {
+                VenueReservation.ReservationStatus status = state.entries.get(interval[0]).status;
+                if (status == VenueReservation.ReservationStatus.APPROVED
+                        || status == VenueReservation.ReservationStatus.PENDING) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isOccupiedAt(Long venueId, LocalDateTime time) {
+        long seconds = toSeconds(time);
+        lock.readLock().lock();
+        try {
+            ReservationIntervalTree tree = state.trees.get(venueId);
+            if (tree == null) {
+                return false;
+            }
+            for (long[] interval : tree.findOverlaps(seconds, seconds + 1)) {
+                if (state.entries.get(interval[0]).status == VenueReservation.ReservationStatus.APPROVED) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] readOccupancy(Long venueId, LocalDateTime from, int slotCount) {
+        long fromSlot = Math.floorDiv(toSeconds(from), OccupancyBitmap.SLOT_SECONDS);
+        lock.readLock().lock();
+        try {
+            OccupancyBitmap bitmap = state.occupancy.get(venueId);
+            return bitmap == null ? new long[(slotCount + 63) / 64] : bitmap.read(fromSlot, slotCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                IndexState fresh = new IndexState();
+                long lastId = 0L;
+                List<Object[]> rows;
+                do {
+                    // Skaler projeksiyon: entity'ler persistence context'te birikmez
+                    rows = reservationRepository.findActiveIntervalsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                    for (Object[] row : rows) {
+                        Long reservationId = (Long) row[0];
+                        fresh.apply(reservationId, new Entry(
+                                (Long) row[1],
+                                toSeconds((LocalDateTime) row[2]),
+                                toSeconds((LocalDateTime) row[3]),
+                                (VenueReservation.ReservationStatus) row[4]));
+                        lastId = reservationId;
+                    }
+                } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal.forEach(fresh::apply);
+                    state = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                log.info("Mekan müsaitlik indeksi oluşturuldu: {} mekan, {} rezervasyon",
+                        fresh.trees.size(), fresh.entries.size());
+                return fresh.entries.size();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private List<long[]> findOverlaps(Long venueId, long start, long end) {
+        lock.readLock().lock();
+        try {
+            ReservationIntervalTree tree = state.trees.get(venueId);
+            return tree == null ? Collections.emptyList() : tree.findOverlaps(start, end);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Long reservationId, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            state.apply(reservationId, entry);
+            if (rebuildJournal != null) {
+                rebuildJournal.put(reservationId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Reddedilen ve iptal edilen rezervasyonlar mekanı meşgul etmez (findOverlappingReservations ile aynı kural)
+    private static boolean isActive(VenueReservation.ReservationStatus status) {
+        return status != VenueReservation.ReservationStatus.REJECTED
+                && status != VenueReservation.ReservationStatus.CANCELLED;
+    }
+
+    private static long toSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static TimeSlotDto toSlot(long start, long end) {
+        return TimeSlotDto.builder()
+                .startTime(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC))
+                .endTime(LocalDateTime.ofEpochSecond(end, 0, ZoneOffset.UTC))
+                .build();
+    }
+
+    /**
+     * İndekslenmiş bir rezervasyonun aralığı
+     */
+    private static final class Entry {
+
+        private final Long venueId;
+        private final long start;
+        private final long end;
+        private final VenueReservation.ReservationStatus status;
+
+        private Entry(Long venueId, long start, long end, VenueReservation.ReservationStatus status) {
+            this.venueId = venueId;
+            this.start = start;
+            this.end = end;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Mekan ID → aralık ağacı ve rezervasyon ID → aralık eşlemeleri
+     */
+    private static final class IndexState {
+
+        private final Map<Long, ReservationIntervalTree> trees = new HashMap<>();
+        private final Map<Long, OccupancyBitmap> occupancy = new HashMap<>();
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        private void apply(Long reservationId, Entry entry) {
+            remove(reservationId);
+            if (entry != null) {
+                entries.put(reservationId, entry);
+                trees.computeIfAbsent(entry.venueId, venueId -> new ReservationIntervalTree())
+                        .insert(reservationId, entry.start, entry.end);
+                occupancy.computeIfAbsent(entry.venueId, venueId -> new OccupancyBitmap())
+                        .mark(entry.start, entry.end);
+            }
+        }
+
+        private void remove(Long reservationId) {
+            Entry existing = entries.remove(reservationId);
+            if (existing == null) {
+                return;
+            }
+            ReservationIntervalTree tree = trees.get(existing.venueId);
+            if (tree != null) {
+                tree.remove(reservationId, existing.start);
+                if (tree.size() == 0) {
+                    trees.remove(existing.venueId);
+                    occupancy.remove(existing.venueId);
+                    return;
+                }
+            }
+
+            // Boşaltılan dilimlere değen diğer rezervasyonlar tekrar işaretlenir
+            OccupancyBitmap bitmap = occupancy.get(existing.venueId);
+            if (bitmap != null && tree != null) {
+                long from = OccupancyBitmap.slotStart(existing.start);
+                long to = OccupancyBitmap.slotEnd(existing.end);
+                bitmap.clear(from, to);
+                for (long[] interval : tree.findOverlaps(from, to)) {
+                    bitmap.mark(Math.max(interval[1], from), Math.min(interval[2], to));
+                }
+            }
+        }
+    }
+}
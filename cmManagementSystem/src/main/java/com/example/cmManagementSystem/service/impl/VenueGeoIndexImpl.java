@@ -0,0 +1,215 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.entity.Venue;
+import com.example.cmManagementSystem.repository.VenueRepository;
+import com.example.cmManagementSystem.service.VenueGeoIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Slf4j
+public class VenueGeoIndexImpl implements VenueGeoIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final VenueRepository venueRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private IndexState state = new IndexState();
+    // Yeniden oluşturma sürerken gelen değişiklikler (null değer = silme); yeni indekse tekrar uygulanır
+    private Map<Long, Point> rebuildJournal;
+
+    @Autowired
+    public VenueGeoIndexImpl(VenueRepository venueRepository, PlatformTransactionManager transactionManager) {
+        this.venueRepository = venueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuild();
+    }
+
+    @Override
+    public void put(Venue venue) {
+        if (venue == null || venue.getId() == null) {
+            return;
+        }
+
+        // Sayısal koordinatlar flush sırasında (@PreUpdate) hesaplandığından commit sonrasında okunur
+        Long venueId = venue.getId();
+        afterCommit(() -> apply(venueId, venue.getGeoLat() != null && venue.getGeoLon() != null
+                ? new Point(venueId, venue.getGeoLat(), venue.getGeoLon())
+                : null));
+    }
+
+    @Override
+    public void remove(Long venueId) {
+        afterCommit(() -> apply(venueId, null));
+    }
+
+    @Override
+    public List<NearbyVenue> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        // En yakın limit kadar sonuç, en uzağı başta tutan sınırlı bir yığında toplanır
+        PriorityQueue<NearbyVenue> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbyVenue::distanceKm).reversed());
+
+        lock.readLock().lock();
+        try {
+            for (String cell : Geohash.cover(latitude, longitude, radiusKm)) {
+                for (Point point : state.points.subMap(cell, true, cell + Character.MAX_VALUE, false).values()) {
+                    double distance = Geohash.distanceKm(latitude, longitude, point.latitude, point.longitude);
+                    if (distance > radiusKm) {
+                        continue;
+                    }
+                    if (nearest.size() < limit) {
+                        nearest.add(new NearbyVenue(point.venueId, distance));
+                    } else if (distance < nearest.peek().distanceKm()) {
+                        nearest.poll();
+                        nearest.add(new NearbyVenue(point.venueId, distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<NearbyVenue> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(NearbyVenue::distanceKm).thenComparing(NearbyVenue::venueId));
+        return result;
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            Integer backfilled = transactionTemplate.execute(status -> venueRepository.backfillCoordinates());
+            if (backfilled != null && backfilled > 0) {
+                log.info("{} mekanın sayısal koordinatları metin alanlarından dolduruldu", backfilled);
+            }
+
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                IndexState fresh = new IndexState();
+                long lastId = 0L;
+                List<Object[]> rows;
+                do {
+                    // Skaler projeksiyon: entity'ler persistence context'te birikmez
+                    rows = venueRepository.findCoordinatesAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                    for (Object[] row : rows) {
+                        Long venueId = (Long) row[0];
+                        fresh.apply(venueId, new Point(venueId, (Double) row[1], (Double) row[2]));
+                        lastId = venueId;
+                    }
+                } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal.forEach(fresh::apply);
+                    state = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                log.info("Mekan konum indeksi oluşturuldu: {} mekan", fresh.keys.size());
+                return fresh.keys.size();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuildJournal = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private void apply(Long venueId, Point point) {
+        lock.writeLock().lock();
+        try {
+            state.apply(venueId, point);
+            if (rebuildJournal != null) {
+                rebuildJournal.put(venueId, point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * İndekslenmiş bir mekan konumu
+     */
+    private static final class Point {
+
+        private final Long venueId;
+        private final double latitude;
+        private final double longitude;
+
+        private Point(Long venueId, double latitude, double longitude) {
+            this.venueId = venueId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    /**
+     * Tam hassasiyetli geohash + ID → konum eşlemesi. Anahtarlar sıralı olduğundan bir hücrenin
+     * tüm mekanları geohash öneki ile aralık taramasıyla bulunur.
+     */
+    private static final class IndexState {
+
+        private final TreeMap<String, Point> points = new TreeMap<>();
+        private final Map<Long, String> keys = new HashMap<>();
+
+        private void apply(Long venueId, Point point) {
+            String existing = keys.remove(venueId);
+            if (existing != null) {
+                points.remove(existing);
+            }
+            if (point != null) {
+                String key = Geohash.encode(point.latitude, point.longitude, Geohash.MAX_PRECISION) + "#" + venueId;
+                keys.put(venueId, key);
+                points.put(key, point);
+            }
+        }
+    }
+}
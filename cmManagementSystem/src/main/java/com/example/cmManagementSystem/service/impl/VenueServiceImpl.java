@@ -1,30 +1,49 @@
 package com.example.cmManagementSystem.service.impl;
 
+import com.example.cmManagementSystem.dto.ReservationSeriesRequestDto;
+import com.example.cmManagementSystem.dto.ReservationSeriesResultDto;
+import com.example.cmManagementSystem.dto.TimeSlotDto;
 import com.example.cmManagementSystem.dto.VenueDto;
+import com.example.cmManagementSystem.dto.VenueOccupancyDto;
 import com.example.cmManagementSystem.dto.VenueReservationDto;
+import com.example.cmManagementSystem.dto.VenueSearchRequestDto;
 import com.example.cmManagementSystem.entity.Club;
 import com.example.cmManagementSystem.entity.ClubMembership;
 import com.example.cmManagementSystem.entity.Event;
 import com.example.cmManagementSystem.entity.User;
 import com.example.cmManagementSystem.entity.Venue;
 import com.example.cmManagementSystem.entity.VenueReservation;
+import com.example.cmManagementSystem.exception.ReservationConflictException;
 import com.example.cmManagementSystem.exception.ResourceNotFoundException;
+import com.example.cmManagementSystem.mapper.VenueReservationMapper;
 import com.example.cmManagementSystem.repository.ClubMembershipRepository;
 import com.example.cmManagementSystem.repository.ClubRepository;
 import com.example.cmManagementSystem.repository.EventRepository;
 import com.example.cmManagementSystem.repository.UserRepository;
 import com.example.cmManagementSystem.repository.VenueRepository;
 import com.example.cmManagementSystem.repository.VenueReservationRepository;
+import com.example.cmManagementSystem.service.VenueAvailabilityIndex;
+import com.example.cmManagementSystem.service.VenueGeoIndex;
 import com.example.cmManagementSystem.service.VenueService;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -35,6 +54,25 @@ import java.util.stream.Collectors;
 @Transactional
 public class VenueServiceImpl implements VenueService {
     
+    // pg_advisory_xact_lock(namespace, venue_id): aynı mekanın çakışma kontrolü ve kaydı sırayla yapılır,
+    // farklı mekanlar birbirini beklemez; kilit işlem sonunda kendiliğinden bırakılır
+    private static final int VENUE_LOCK_NAMESPACE = 0x5645_4E55;
+    private static final String LOCK_VENUE_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+    
+    private static final int MAX_SERIES_OCCURRENCES = 200;
+    private static final String INSERT_SERIES_SQL =
+            "INSERT INTO venue_reservations (venue_id, event_id, club_id, created_by, reservation_date, cost, " +
+            "attendee_count, special_requirements, series_code, created_at, updated_at, status, " +
+            "start_time, end_time, reservation_code) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', o.start_time, o.end_time, o.code " +
+            "FROM unnest(?::timestamp[], ?::timestamp[], ?::varchar[]) AS o(start_time, end_time, code) " +
+            "RETURNING id, reservation_code";
+    
+    private static final Duration MAX_OCCUPANCY_WINDOW = Duration.ofDays(31);
+    
+    private static final double MAX_NEARBY_RADIUS_KM = 500.0;
+    private static final int MAX_NEARBY_LIMIT = 200;
+    
     private final VenueRepository venueRepository;
     private final VenueReservationRepository reservationRepository;
     private final UserRepository userRepository;
@@ -42,6 +80,10 @@ public class VenueServiceImpl implements VenueService {
     private final ClubMembershipRepository clubMembershipRepository;
     private final EventRepository eventRepository;
     private final ModelMapper modelMapper;
+    private final VenueReservationMapper reservationMapper;
+    private final VenueAvailabilityIndex availabilityIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final VenueGeoIndex geoIndex;
     
     @Autowired
     public VenueServiceImpl(
@@ -51,7 +93,11 @@ public class VenueServiceImpl implements VenueService {
             ClubRepository clubRepository,
             ClubMembershipRepository clubMembershipRepository,
             EventRepository eventRepository,
-            ModelMapper modelMapper) {
+            ModelMapper modelMapper,
+            VenueReservationMapper reservationMapper,
+            VenueAvailabilityIndex availabilityIndex,
+            JdbcTemplate jdbcTemplate,
+            VenueGeoIndex geoIndex) {
         this.venueRepository = venueRepository;
         this.reservationRepository = reservationRepository;
         this.userRepository = userRepository;
@@ -59,6 +105,10 @@ public class VenueServiceImpl implements VenueService {
         this.clubMembershipRepository = clubMembershipRepository;
         this.eventRepository = eventRepository;
         this.modelMapper = modelMapper;
+        this.reservationMapper = reservationMapper;
+        this.availabilityIndex = availabilityIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.geoIndex = geoIndex;
     }
     
     @Override
@@ -111,6 +161,7 @@ public class VenueServiceImpl implements VenueService {
         
         // Mekanı kaydet
         Venue savedVenue = venueRepository.save(venue);
+        geoIndex.put(savedVenue);
         
         return mapToVenueDto(savedVenue);
     }
@@ -144,6 +195,7 @@ public class VenueServiceImpl implements VenueService {
         
         // Güncellenen mekanı kaydet
         Venue updatedVenue = venueRepository.save(venue);
+        geoIndex.put(updatedVenue);
         
         return mapToVenueDto(updatedVenue);
     }
@@ -154,19 +206,14 @@ public class VenueServiceImpl implements VenueService {
         Venue venue = venueRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", id));
         
-        // Aktif rezervasyonlar var mı kontrol et
-        List<VenueReservation> activeReservations = reservationRepository.findByVenueId(id)
-                .stream()
-                .filter(r -> r.getStatus() == VenueReservation.ReservationStatus.APPROVED || 
-                             r.getStatus() == VenueReservation.ReservationStatus.PENDING)
-                .filter(r -> r.getEndTime().isAfter(LocalDateTime.now()))
-                .collect(Collectors.toList());
-        
-        if (!activeReservations.isEmpty()) {
+        // Aktif rezervasyonlar var mı kontrol et; güvenlik kontrolü düğüme özel indeksten değil veritabanından yapılır
+        if (reservationRepository.countActiveUpcoming(id, LocalDateTime.now()) > 0) {
             throw new IllegalStateException("Bu mekan şu anda aktif rezervasyonlara sahip. Önce rezervasyonları iptal edin.");
         }
         
         venueRepository.delete(venue);
+        availabilityIndex.removeVenue(id);
+        geoIndex.remove(id);
     }
     
     @Override
@@ -175,19 +222,144 @@ public class VenueServiceImpl implements VenueService {
         venueRepository.findById(venueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", venueId));
         
-        // Çakışan rezervasyonları ara
-        List<VenueReservation> overlappingReservations = 
-                reservationRepository.findOverlappingReservations(venueId, startDate, endDate);
+        // Çakışan rezervasyonları bellek içi indeksten ara
+        List<Long> conflicts = availabilityIndex.findConflicts(venueId, startDate, endDate);
         
         Map<String, Boolean> result = new HashMap<>();
-        result.put("available", overlappingReservations.isEmpty());
-        result.put("hasConflicts", !overlappingReservations.isEmpty());
-        result.put("conflictCount", !overlappingReservations.isEmpty() ? 
-                Boolean.valueOf(overlappingReservations.size() > 0) : Boolean.FALSE);
+        result.put("available", conflicts.isEmpty());
+        result.put("hasConflicts", !conflicts.isEmpty());
+        result.put("conflictCount", !conflicts.isEmpty());
         
         return result;
     }
     
+    @Override
+    public List<VenueDto> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new IllegalArgumentException("Geçersiz koordinat");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new IllegalArgumentException("Yarıçap 0 ile " + MAX_NEARBY_RADIUS_KM + " km arasında olmalıdır");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("Sonuç sayısı 1 ile " + MAX_NEARBY_LIMIT + " arasında olmalıdır");
+        }
+        
+        // Aday mekanlar geohash indeksinden, ayrıntılar tek sorguda yüklenir
+        List<VenueGeoIndex.NearbyVenue> nearby = geoIndex.findNearby(latitude, longitude, radiusKm, limit);
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Venue> venues = new HashMap<>();
+        for (Venue venue : venueRepository.findWithCreatedByByIdIn(
+                nearby.stream().map(VenueGeoIndex.NearbyVenue::venueId).collect(Collectors.toList()))) {
+            venues.put(venue.getId(), venue);
+        }
+        
+        List<VenueDto> result = new ArrayList<>(nearby.size());
+        for (VenueGeoIndex.NearbyVenue candidate : nearby) {
+            Venue venue = venues.get(candidate.venueId());
+            if (venue != null) {
+                VenueDto dto = mapToVenueDto(venue);
+                dto.setDistanceKm(candidate.distanceKm());
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public List<VenueDto> searchAvailable(VenueSearchRequestDto request) {
+        if (!request.getStartTime().isBefore(request.getEndTime())) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından önce olmalıdır");
+        }
+        
+        String city = request.getCity() != null && !request.getCity().isBlank() ? request.getCity().trim() : null;
+        
+        // Statik filtreler tek sorguda, zaman çakışması tek geçişte bellek içi indeksten uygulanır
+        Map<Long, Venue> candidates = new LinkedHashMap<>();
+        for (Venue venue : venueRepository.findSearchCandidates(request.getMinCapacity(), request.getIsUniversityVenue(), city)) {
+            candidates.put(venue.getId(), venue);
+        }
+        
+        List<Venue> available = new ArrayList<>();
+        for (Long venueId : availabilityIndex.filterAvailable(candidates.keySet(), request.getStartTime(), request.getEndTime())) {
+            available.add(candidates.get(venueId));
+        }
+        
+        // Uygunluk: istenen kapasiteye en yakın mekan önce, ardından düşük kira ve isim
+        int requiredCapacity = request.getMinCapacity() != null ? request.getMinCapacity() : 0;
+        available.sort(Comparator
+                .comparing((Venue venue) -> venue.getCapacity() != null ? venue.getCapacity() - requiredCapacity : Integer.MAX_VALUE)
+                .thenComparing(Venue::getRentalFee, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Venue::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        
+        return available.stream()
+                .map(this::mapToVenueDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public VenueOccupancyDto getOccupancy(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından önce olmalıdır");
+        }
+        if (Duration.between(from, to).compareTo(MAX_OCCUPANCY_WINDOW) > 0) {
+            throw new IllegalArgumentException("Doluluk tablosu en fazla " + MAX_OCCUPANCY_WINDOW.toDays() + " gün için alınabilir");
+        }
+        
+        // Pencere dilim sınırlarına genişletilir
+        long fromSeconds = OccupancyBitmap.slotStart(toEpochSeconds(from));
+        long toSeconds = OccupancyBitmap.slotEnd(toEpochSeconds(to));
+        LocalDateTime alignedFrom = LocalDateTime.ofEpochSecond(fromSeconds, 0, ZoneOffset.UTC);
+        int slotCount = (int) ((toSeconds - fromSeconds) / OccupancyBitmap.SLOT_SECONDS);
+        
+        // Her mekanın satırı bellek içi bit dizisinden okunur; rezervasyon tablosuna gidilmez
+        List<VenueOccupancyDto.Row> rows = new ArrayList<>();
+        long totalBusy = 0;
+        for (Object[] venue : venueRepository.findIdAndNames()) {
+            long[] bits = availabilityIndex.readOccupancy((Long) venue[0], alignedFrom, slotCount);
+            
+            StringBuilder slots = new StringBuilder(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                slots.append((bits[i >>> 6] & (1L << (i & 63))) != 0 ? '1' : '0');
+            }
+            int busy = 0;
+            for (long word : bits) {
+                busy += Long.bitCount(word);
+            }
+            totalBusy += busy;
+            
+            rows.add(new VenueOccupancyDto.Row((Long) venue[0], (String) venue[1], slots.toString(), busy,
+                    percentage(busy, slotCount)));
+        }
+        
+        return VenueOccupancyDto.builder()
+                .from(alignedFrom)
+                .to(LocalDateTime.ofEpochSecond(toSeconds, 0, ZoneOffset.UTC))
+                .slotMinutes(VenueAvailabilityIndex.OCCUPANCY_SLOT_MINUTES)
+                .slotCount(slotCount)
+                .utilizationPercent(rows.isEmpty() ? 0.0 : percentage(totalBusy, (long) slotCount * rows.size()))
+                .venues(rows)
+                .build();
+    }
+    
+    @Override
+    public List<TimeSlotDto> findFreeSlots(Long venueId, LocalDateTime from, LocalDateTime to, int minMinutes) {
+        venueRepository.findById(venueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", venueId));
+        
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından önce olmalıdır");
+        }
+        if (minMinutes < 1) {
+            throw new IllegalArgumentException("En kısa süre en az 1 dakika olmalıdır");
+        }
+        
+        return availabilityIndex.findFreeSlots(venueId, from, to, Duration.ofMinutes(minMinutes));
+    }
+    
     @Override
     public List<VenueReservationDto> getReservations(Long venueId) {
         // Mekanı bul
@@ -209,15 +381,8 @@ public class VenueServiceImpl implements VenueService {
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", venueId));
         
-        // Çakışan rezervasyonları kontrol et
-        List<VenueReservation> overlappingReservations = 
-                reservationRepository.findOverlappingReservations(venueId, 
-                                                                 reservationDto.getStartTime(), 
-                                                                 reservationDto.getEndTime());
-        
-        if (!overlappingReservations.isEmpty()) {
-            throw new IllegalStateException("Seçilen zaman aralığı için mekan müsait değil, çakışan rezervasyonlar var.");
-        }
+        // Çakışan rezervasyonları kontrol et (mekan kilidi işlem sonuna kadar tutulur)
+        reserveTimeRange(venueId, reservationDto.getStartTime(), reservationDto.getEndTime(), null);
         
         // Yeni rezervasyon oluştur
         VenueReservation reservation = new VenueReservation();
@@ -254,10 +419,85 @@ public class VenueServiceImpl implements VenueService {
         
         // Rezervasyonu kaydet
         VenueReservation savedReservation = reservationRepository.save(reservation);
+        availabilityIndex.put(savedReservation);
         
         return mapToReservationDto(savedReservation);
     }
     
+    @Override
+    @Transactional
+    public ReservationSeriesResultDto createReservationSeries(Long venueId, ReservationSeriesRequestDto request) {
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", venueId));
+        
+        List<LocalDateTime> starts = expandOccurrences(request);
+        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
+        
+        // İlişkiler her tekrar için değil, seri için bir kez doğrulanır
+        if (request.getEventId() != null && !eventRepository.existsById(request.getEventId())) {
+            throw new ResourceNotFoundException("Event", "id", request.getEventId());
+        }
+        if (request.getClubId() != null && !clubRepository.existsById(request.getClubId())) {
+            throw new ResourceNotFoundException("Club", "id", request.getClubId());
+        }
+        if (request.getCreatedById() != null && !userRepository.existsById(request.getCreatedById())) {
+            throw new ResourceNotFoundException("User", "id", request.getCreatedById());
+        }
+        
+        // Mekan kilidi altında serinin tamamını kapsayan tek bir aralık sorgusu yapılır;
+        // tekrarlar bu sonuçtan kurulan aralık ağacında O(log n) ile denetlenir
+        jdbcTemplate.queryForList(LOCK_VENUE_SQL, VENUE_LOCK_NAMESPACE, venueId.intValue());
+        
+        ReservationIntervalTree existing = new ReservationIntervalTree();
+        for (VenueReservation reservation : reservationRepository.findOverlappingReservations(
+                venueId, starts.get(0), starts.get(starts.size() - 1).plus(duration))) {
+            existing.insert(reservation.getId(), toEpochSeconds(reservation.getStartTime()), toEpochSeconds(reservation.getEndTime()));
+        }
+        ReservationIntervalTree accepted = new ReservationIntervalTree();
+        
+        String seriesCode = "SERIES-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        List<ReservationSeriesResultDto.Occurrence> occurrences = new ArrayList<>(starts.size());
+        List<ReservationSeriesResultDto.Occurrence> toCreate = new ArrayList<>();
+        for (LocalDateTime start : starts) {
+            LocalDateTime end = start.plus(duration);
+            long startSeconds = toEpochSeconds(start);
+            long endSeconds = toEpochSeconds(end);
+            
+            ReservationSeriesResultDto.Occurrence occurrence =
+                    new ReservationSeriesResultDto.Occurrence(start, end, null, null, null, List.of());
+            List<long[]> conflicts = existing.findOverlaps(startSeconds, endSeconds);
+            if (!conflicts.isEmpty()) {
+                List<Long> conflictIds = new ArrayList<>(conflicts.size());
+                for (long[] conflict : conflicts) {
+                    conflictIds.add(conflict[0]);
+                }
+                occurrence.setOutcome(ReservationSeriesResultDto.Outcome.CONFLICT);
+                occurrence.setConflictingReservationIds(conflictIds);
+            } else if (accepted.findAnyOverlap(startSeconds, endSeconds, null) != null) {
+                occurrence.setOutcome(ReservationSeriesResultDto.Outcome.SERIES_OVERLAP);
+            } else {
+                accepted.insert(toCreate.size(), startSeconds, endSeconds);
+                occurrence.setOutcome(ReservationSeriesResultDto.Outcome.CREATED);
+                occurrence.setReservationCode(generateReservationCode());
+                toCreate.add(occurrence);
+            }
+            occurrences.add(occurrence);
+        }
+        
+        if (!toCreate.isEmpty()) {
+            insertSeries(venue, request, seriesCode, toCreate);
+        }
+        
+        return ReservationSeriesResultDto.builder()
+                .venueId(venueId)
+                .seriesCode(seriesCode)
+                .requested(occurrences.size())
+                .created(toCreate.size())
+                .conflicted(occurrences.size() - toCreate.size())
+                .occurrences(occurrences)
+                .build();
+    }
+    
     @Override
     @Transactional
     public VenueReservationDto updateReservation(Long reservationId, VenueReservationDto reservationDto) {
@@ -275,19 +515,8 @@ public class VenueServiceImpl implements VenueService {
         if (!reservation.getStartTime().isEqual(reservationDto.getStartTime()) || 
             !reservation.getEndTime().isEqual(reservationDto.getEndTime())) {
             
-            List<VenueReservation> overlappingReservations = 
-                    reservationRepository.findOverlappingReservations(reservation.getVenue().getId(), 
-                                                                     reservationDto.getStartTime(), 
-                                                                     reservationDto.getEndTime());
-            
-            // Kendi rezervasyonumuzu hariç tut
-            overlappingReservations = overlappingReservations.stream()
-                    .filter(r -> !r.getId().equals(reservationId))
-                    .collect(Collectors.toList());
-            
-            if (!overlappingReservations.isEmpty()) {
-                throw new IllegalStateException("Seçilen zaman aralığı için mekan müsait değil, çakışan rezervasyonlar var.");
-            }
+            reserveTimeRange(reservation.getVenue().getId(), reservationDto.getStartTime(),
+                    reservationDto.getEndTime(), reservationId);
         }
         
         // Rezervasyonu güncelle
@@ -317,6 +546,7 @@ public class VenueServiceImpl implements VenueService {
         
         // Güncellenen rezervasyonu kaydet
         VenueReservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.put(updatedReservation);
         
         return mapToReservationDto(updatedReservation);
     }
@@ -336,6 +566,7 @@ public class VenueServiceImpl implements VenueService {
         // Rezervasyonu iptal et
         reservation.setStatus(VenueReservation.ReservationStatus.CANCELLED);
         reservationRepository.save(reservation);
+        availabilityIndex.remove(reservationId);
     }
     
     @Override
@@ -354,6 +585,14 @@ public class VenueServiceImpl implements VenueService {
                 throw new IllegalStateException("İptal edilmiş rezervasyonların durumu değiştirilemez.");
             }
             
+            // Reddedilmiş bir rezervasyon yeniden etkinleşiyorsa aralığı hâlâ boş olmalı
+            if (reservation.getStatus() == VenueReservation.ReservationStatus.REJECTED && 
+                newStatus != VenueReservation.ReservationStatus.REJECTED &&
+                newStatus != VenueReservation.ReservationStatus.CANCELLED) {
+                reserveTimeRange(reservation.getVenue().getId(), reservation.getStartTime(),
+                        reservation.getEndTime(), reservationId);
+            }
+            
             // Rezervasyon durumunu güncelle
             reservation.setStatus(newStatus);
             
@@ -363,6 +602,7 @@ public class VenueServiceImpl implements VenueService {
             }
             
             VenueReservation updatedReservation = reservationRepository.save(reservation);
+            availabilityIndex.put(updatedReservation);
             
             return mapToReservationDto(updatedReservation);
         } catch (IllegalArgumentException e) {
@@ -400,54 +640,151 @@ public class VenueServiceImpl implements VenueService {
             dto.setCreatedByName(venue.getCreatedBy().getFullName());
         }
         
-        // Gelecek rezervasyonları sayısını ayarla
-        long upcomingReservations = venue.getReservations().stream()
-                .filter(r -> r.getStatus() == VenueReservation.ReservationStatus.APPROVED || 
-                            r.getStatus() == VenueReservation.ReservationStatus.PENDING)
-                .filter(r -> r.getEndTime().isAfter(LocalDateTime.now()))
-                .count();
+        // Gelecek rezervasyon sayısı ve şu anki doluluk bellek içi indeksten okunur
+        LocalDateTime now = LocalDateTime.now();
+        dto.setUpcomingReservationsCount(availabilityIndex.countUpcoming(venue.getId(), now));
         
-        dto.setUpcomingReservationsCount((int) upcomingReservations);
-        
-        // Şu anda müsait olma durumunu ayarla
-        boolean isAvailable = venue.getReservations().stream()
-                .filter(r -> r.getStatus() == VenueReservation.ReservationStatus.APPROVED)
-                .noneMatch(r -> r.getStartTime().isBefore(LocalDateTime.now()) && 
-                               r.getEndTime().isAfter(LocalDateTime.now()));
+        boolean isAvailable = !availabilityIndex.isOccupiedAt(venue.getId(), now);
         
         dto.setAvailable(isAvailable);
         
         return dto;
     }
     
-    private VenueReservationDto mapToReservationDto(VenueReservation reservation) {
-        VenueReservationDto dto = modelMapper.map(reservation, VenueReservationDto.class);
+    /**
+     * Aralığın mekan için boş olduğunu doğrular. Bellek içi indeks hızlı ret sağlar; ardından mekan
+     * kilidi alınıp veritabanı kontrol edilir. Kilit işlem sonuna kadar tutulduğundan aynı mekana
+     * eşzamanlı yapılan iki rezervasyondan ikincisi, birincisinin kaydını görerek reddedilir.
+     */
+    private void reserveTimeRange(Long venueId, LocalDateTime startTime, LocalDateTime endTime, Long excludeReservationId) {
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından önce olmalıdır");
+        }
+        
+        // İndeks düğüme özeldir ve başka düğümlerdeki iptal/güncellemeleri görmeyebilir: çakışma yalnızca
+        // bir ipucudur, karar mekan kilidi altında veritabanından verilir
+        Long indexedConflict = availabilityIndex.findConflict(venueId, startTime, endTime, excludeReservationId);
         
-        // İlişkili entity'lerin bilgilerini ayarla
-        dto.setVenueId(reservation.getVenue().getId());
-        dto.setVenueName(reservation.getVenue().getName());
+        jdbcTemplate.queryForList(LOCK_VENUE_SQL, VENUE_LOCK_NAMESPACE, venueId.intValue());
         
-        if (reservation.getEvent() != null) {
-            dto.setEventId(reservation.getEvent().getId());
-            dto.setEventTitle(reservation.getEvent().getTitle());
+        boolean overlaps = reservationRepository.findOverlappingReservations(venueId, startTime, endTime).stream()
+                .anyMatch(r -> !r.getId().equals(excludeReservationId));
+        if (overlaps) {
+            throw new ReservationConflictException(venueId);
         }
         
-        if (reservation.getClub() != null) {
-            dto.setClubId(reservation.getClub().getId());
-            dto.setClubName(reservation.getClub().getName());
+        // Veritabanında çakışma yoksa indeksteki kayıt bayattır; güncel haliyle (commit sonrası) yenilenir
+        if (indexedConflict != null) {
+            reservationRepository.findById(indexedConflict).ifPresentOrElse(
+                    availabilityIndex::put, () -> availabilityIndex.remove(indexedConflict));
+        }
+    }
+    
+    /**
+     * Tekrar kuralını başlangıç zamanlarına açar (zaman sırasıyla, en fazla MAX_SERIES_OCCURRENCES)
+     */
+    private List<LocalDateTime> expandOccurrences(ReservationSeriesRequestDto request) {
+        LocalDateTime first = request.getStartTime();
+        if (!first.isBefore(request.getEndTime())) {
+            throw new IllegalArgumentException("Başlangıç zamanı bitiş zamanından önce olmalıdır");
+        }
+        if (request.getCount() == null && request.getUntil() == null) {
+            throw new IllegalArgumentException("Tekrar sayısı (count) veya bitiş tarihi (until) belirtilmelidir");
         }
         
-        if (reservation.getCreatedBy() != null) {
-            dto.setCreatedById(reservation.getCreatedBy().getId());
-            dto.setCreatedByName(reservation.getCreatedBy().getFullName());
+        int interval = request.getInterval() != null ? request.getInterval() : 1;
+        int limit = request.getCount() != null ? Math.min(request.getCount(), MAX_SERIES_OCCURRENCES) : MAX_SERIES_OCCURRENCES;
+        List<LocalDateTime> starts = new ArrayList<>();
+        
+        if (request.getFrequency() == ReservationSeriesRequestDto.Frequency.DAILY) {
+            for (LocalDateTime start = first; starts.size() < limit; start = start.plusDays(interval)) {
+                if (request.getUntil() != null && start.isAfter(request.getUntil())) {
+                    break;
+                }
+                starts.add(start);
+            }
+        } else {
+            // Haftalar ilk tekrarın haftasının pazartesisinden sayılır; her haftada günler sırayla eklenir
+            List<DayOfWeek> days = request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()
+                    ? List.of(first.getDayOfWeek())
+                    : request.getDaysOfWeek().stream().sorted().collect(Collectors.toList());
+            LocalDateTime weekStart = first.minusDays(first.getDayOfWeek().getValue() - 1L);
+            weeks:
+            for (int week = 0; ; week += interval) {
+                for (DayOfWeek day : days) {
+                    LocalDateTime start = weekStart.plusWeeks(week).plusDays(day.getValue() - 1L);
+                    if (start.isBefore(first)) {
+                        continue;
+                    }
+                    if (starts.size() >= limit || (request.getUntil() != null && start.isAfter(request.getUntil()))) {
+                        break weeks;
+                    }
+                    starts.add(start);
+                }
+            }
         }
         
-        if (reservation.getApprovedBy() != null) {
-            dto.setApprovedById(reservation.getApprovedBy().getId());
-            dto.setApprovedByName(reservation.getApprovedBy().getFullName());
+        if (starts.isEmpty()) {
+            throw new IllegalArgumentException("Tekrar kuralı hiçbir rezervasyon üretmedi");
+        }
+        return starts;
+    }
+    
+    // Çakışmayan tekrarlar tek bir INSERT ... SELECT FROM unnest ile eklenir; üretilen ID'ler RETURNING ile okunur
+    private void insertSeries(Venue venue, ReservationSeriesRequestDto request, String seriesCode,
+                              List<ReservationSeriesResultDto.Occurrence> occurrences) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp[] startTimes = new Timestamp[occurrences.size()];
+        Timestamp[] endTimes = new Timestamp[occurrences.size()];
+        String[] codes = new String[occurrences.size()];
+        for (int i = 0; i < occurrences.size(); i++) {
+            startTimes[i] = Timestamp.valueOf(occurrences.get(i).getStartTime());
+            endTimes[i] = Timestamp.valueOf(occurrences.get(i).getEndTime());
+            codes[i] = occurrences.get(i).getReservationCode();
         }
         
-        return dto;
+        Map<String, Long> idsByCode = new HashMap<>();
+        jdbcTemplate.query(INSERT_SERIES_SQL, ps -> {
+            ps.setLong(1, venue.getId());
+            ps.setObject(2, request.getEventId(), Types.BIGINT);
+            ps.setObject(3, request.getClubId(), Types.BIGINT);
+            ps.setObject(4, request.getCreatedById(), Types.BIGINT);
+            ps.setTimestamp(5, now);
+            ps.setBigDecimal(6, request.getCost());
+            ps.setObject(7, request.getAttendeeCount(), Types.INTEGER);
+            ps.setString(8, request.getSpecialRequirements());
+            ps.setString(9, seriesCode);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+            ps.setArray(12, ps.getConnection().createArrayOf("timestamp", startTimes));
+            ps.setArray(13, ps.getConnection().createArrayOf("timestamp", endTimes));
+            ps.setArray(14, ps.getConnection().createArrayOf("varchar", codes));
+        }, (RowCallbackHandler) rs -> idsByCode.put(rs.getString(2), rs.getLong(1)));
+        
+        for (ReservationSeriesResultDto.Occurrence occurrence : occurrences) {
+            Long reservationId = idsByCode.get(occurrence.getReservationCode());
+            occurrence.setReservationId(reservationId);
+            availabilityIndex.put(VenueReservation.builder()
+                    .id(reservationId)
+                    .venue(venue)
+                    .startTime(occurrence.getStartTime())
+                    .endTime(occurrence.getEndTime())
+                    .status(VenueReservation.ReservationStatus.PENDING)
+                    .build());
+        }
+    }
+    
+    // İki ondalık basamağa yuvarlanmış yüzde
+    private static double percentage(long part, long total) {
+        return Math.round(part * 10000.0 / total) / 100.0;
+    }
+    
+    private static long toEpochSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+    
+    private VenueReservationDto mapToReservationDto(VenueReservation reservation) {
+        return reservationMapper.toDto(reservation);
     }
     
     private String generateReservationCode() {
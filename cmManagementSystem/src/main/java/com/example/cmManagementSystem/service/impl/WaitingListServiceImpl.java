@@ -2,6 +2,7 @@ package com.example.cmManagementSystem.service.impl;
 
 import com.example.cmManagementSystem.dto.UserDto;
 import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.dto.WaitingListMoveDto;
 import com.example.cmManagementSystem.entity.Event;
 import com.example.cmManagementSystem.entity.EventParticipation;
 import com.example.cmManagementSystem.entity.User;
@@ -14,33 +15,97 @@ import com.example.cmManagementSystem.repository.EventRepository;
 import com.example.cmManagementSystem.repository.UserRepository;
 import com.example.cmManagementSystem.repository.WaitingListRepository;
 import com.example.cmManagementSystem.service.WaitingListService;
+import com.example.cmManagementSystem.service.WaitlistOfferExpiryService;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class WaitingListServiceImpl implements WaitingListService {
 
+    private static final String POSITION_CONSTRAINT = "uk_waiting_lists_event_position";
+
+    // Kısıt eklenmeden önce eski (eşzamanlı katılımlarda çakışmış olabilecek) pozisyonlar etkinlik bazında yeniden numaralanır
+    private static final String RENUMBER_POSITIONS_SQL =
+            "UPDATE waiting_lists w SET position = r.rn " +
+            "FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY event_id ORDER BY position, join_date, id) AS rn " +
+            "FROM waiting_lists) r " +
+            "WHERE r.id = w.id AND w.position IS DISTINCT FROM r.rn";
+
+    // Aynı etkinlikte iki kayıt aynı pozisyonu alamaz. Kısıt ertelenebilir (DEFERRABLE INITIALLY DEFERRED):
+    // sıra kaydırma ve yeniden sıralama gibi toplu güncellemeler satır satır değil commit anında denetlenir.
+    private static final String ADD_POSITION_CONSTRAINT_SQL =
+            "ALTER TABLE waiting_lists ADD CONSTRAINT " + POSITION_CONSTRAINT + " " +
+            "UNIQUE (event_id, position) DEFERRABLE INITIALLY DEFERRED";
+
+    private static final String REORDER_POSITIONS_SQL =
+            "UPDATE waiting_lists w SET position = m.position, updated_at = ? " +
+            "FROM unnest(?::bigint[], ?::integer[]) AS m(id, position) " +
+            "WHERE w.id = m.id AND w.event_id = ?";
+
     private final WaitingListRepository waitingListRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventParticipationRepository eventParticipationRepository;
     private final UserMapper userMapper;
     private final WaitingListMapper waitingListMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchemaMigrations schemaMigrations;
+
+    // Pozisyon kısıtı tek seferlik bir şema görevi olarak kurulur: görev küresel kilit altında
+    // yalnızca bir düğümde çalışır ve kısıt zaten varsa (önceki sürümlerde eklenmişse) yeniden numaralamaz.
+    // Sıra sayaçlarının eşitlenmesi yalnızca yukarı doğru olduğundan her açılışta güvenle çalışır.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePositionSequences() {
+        schemaMigrations.runOnce(POSITION_CONSTRAINT, () -> {
+            Integer constraintCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_constraint WHERE conname = ?", Integer.class, POSITION_CONSTRAINT);
+            if (constraintCount == null || constraintCount == 0) {
+                int renumbered = jdbcTemplate.update(RENUMBER_POSITIONS_SQL);
+                jdbcTemplate.execute(ADD_POSITION_CONSTRAINT_SQL);
+                log.info("Bekleme listesi pozisyon kısıtı eklendi ({} kayıt yeniden numaralandı)", renumbered);
+            }
+        });
+        eventRepository.syncWaitlistSequences();
+    }
 
     @Override
     @Transactional(readOnly = true)
     public List<WaitingListDto> findAll() {
         List<WaitingList> waitingLists = waitingListRepository.findAll();
-        return waitingListMapper.toDtoList(waitingLists);
+        
+        // Tüm kayıtlar elde olduğundan sıra numaraları etkinlik bazında bellekte hesaplanır
+        waitingLists.sort(Comparator.comparing((WaitingList wl) -> wl.getEvent().getId())
+                .thenComparing(WaitingList::getPosition, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(WaitingList::getId));
+        List<WaitingListDto> dtos = waitingListMapper.toDtoList(waitingLists);
+        int rank = 0;
+        for (int i = 0; i < dtos.size(); i++) {
+            boolean newEvent = i == 0 || !dtos.get(i).getEventId().equals(dtos.get(i - 1).getEventId());
+            rank = newEvent ? 1 : rank + 1;
+            dtos.get(i).setPosition(rank);
+        }
+        return dtos;
     }
 
     @Override
@@ -48,14 +113,14 @@ public class WaitingListServiceImpl implements WaitingListService {
     public WaitingListDto findById(Long id) {
         WaitingList waitingList = waitingListRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "id", id));
-        return waitingListMapper.toDto(waitingList);
+        return toDisplayDto(waitingList);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<WaitingListDto> findByEventId(Long eventId) {
-        List<WaitingList> waitingLists = waitingListRepository.findByEventId(eventId);
-        return waitingListMapper.toDtoList(waitingLists);
+        List<WaitingList> waitingLists = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
+        return toRankedDtoList(waitingLists);
     }
 
     @Override
@@ -78,14 +143,14 @@ public class WaitingListServiceImpl implements WaitingListService {
     @Transactional(readOnly = true)
     public List<WaitingListDto> findByEventIdAndStatus(Long eventId, WaitingList.WaitingStatus status) {
         List<WaitingList> waitingLists = waitingListRepository.findByEventIdAndStatus(eventId, status);
-        return waitingListMapper.toDtoList(waitingLists);
+        return toDisplayDtoList(waitingLists);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<WaitingListDto> findByUserId(Long userId) {
         List<WaitingList> waitingLists = waitingListRepository.findByUserId(userId);
-        return waitingListMapper.toDtoList(waitingLists);
+        return toDisplayDtoList(waitingLists);
     }
 
     @Override
@@ -93,7 +158,7 @@ public class WaitingListServiceImpl implements WaitingListService {
     public WaitingListDto findByEventIdAndUserId(Long eventId, Long userId) {
         WaitingList waitingList = waitingListRepository.findByEventIdAndUserId(eventId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "eventId and userId", eventId + ", " + userId));
-        return waitingListMapper.toDto(waitingList);
+        return toDisplayDto(waitingList);
     }
 
     @Override
@@ -111,7 +176,7 @@ public class WaitingListServiceImpl implements WaitingListService {
     @Transactional(readOnly = true)
     public List<WaitingListDto> findByEventIdOrderByPositionAsc(Long eventId) {
         List<WaitingList> waitingLists = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
-        return waitingListMapper.toDtoList(waitingLists);
+        return toRankedDtoList(waitingLists);
     }
 
     @Override
@@ -131,19 +196,12 @@ public class WaitingListServiceImpl implements WaitingListService {
         
         WaitingList waitingList = waitingListMapper.toEntity(waitingListDto, event, user);
         
-        // Yeni pozisyon değerini hesapla (mevcut en yüksek pozisyon + 1)
-        List<WaitingList> existingList = waitingListRepository.findByEventIdOrderByPositionAsc(waitingListDto.getEventId());
-        int nextPosition = 1;
-        if (!existingList.isEmpty()) {
-            nextPosition = existingList.stream()
-                    .mapToInt(WaitingList::getPosition)
-                    .max()
-                    .orElse(0) + 1;
-        }
-        waitingList.setPosition(nextPosition);
+        // Pozisyon etkinlik sayacından atomik olarak ayrılır (listenin tamamı okunmaz)
+        waitingList.setPosition(eventRepository.allocateWaitlistPositions(event.getId(), 1));
         
         WaitingList savedWaitingList = waitingListRepository.save(waitingList);
-        return waitingListMapper.toDto(savedWaitingList);
+        publishWaitlistChanged(savedWaitingList.getEvent().getId());
+        return toDisplayDto(savedWaitingList);
     }
 
     @Override
@@ -154,8 +212,10 @@ public class WaitingListServiceImpl implements WaitingListService {
             throw new IllegalStateException("User is already on the waiting list for this event");
         }
         
-        // Kullanıcı zaten etkinliğe kayıtlı mı kontrol et
-        if (eventParticipationRepository.findByEventIdAndUserId(eventId, userId).isPresent()) {
+        // Kullanıcı zaten etkinliğe kayıtlı mı kontrol et (iptal edilmiş katılımlar engel değildir)
+        if (eventParticipationRepository.findByEventIdAndUserId(eventId, userId)
+                .filter(p -> p.getStatus() != EventParticipation.ParticipationStatus.CANCELLED)
+                .isPresent()) {
             throw new IllegalStateException("User is already registered for this event");
         }
         
@@ -165,15 +225,8 @@ public class WaitingListServiceImpl implements WaitingListService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         
-        // Yeni pozisyon değerini hesapla (mevcut en yüksek pozisyon + 1)
-        List<WaitingList> existingList = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
-        int nextPosition = 1;
-        if (!existingList.isEmpty()) {
-            nextPosition = existingList.stream()
-                    .mapToInt(WaitingList::getPosition)
-                    .max()
-                    .orElse(0) + 1;
-        }
+        // Pozisyon etkinlik sayacından atomik olarak ayrılır (listenin tamamı okunmaz)
+        int nextPosition = eventRepository.allocateWaitlistPositions(eventId, 1);
         
         WaitingList waitingList = WaitingList.builder()
                 .event(event)
@@ -186,7 +239,8 @@ public class WaitingListServiceImpl implements WaitingListService {
                 .build();
         
         WaitingList savedWaitingList = waitingListRepository.save(waitingList);
-        return waitingListMapper.toDto(savedWaitingList);
+        publishWaitlistChanged(savedWaitingList.getEvent().getId());
+        return toDisplayDto(savedWaitingList);
     }
 
     @Override
@@ -196,8 +250,16 @@ public class WaitingListServiceImpl implements WaitingListService {
                 .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "id", id));
         
         waitingListMapper.updateEntityFromDto(waitingListDto, existingWaitingList);
-        WaitingList updatedWaitingList = waitingListRepository.save(existingWaitingList);
-        return waitingListMapper.toDto(updatedWaitingList);
+        // Sıralama JDBC ile yapıldığından alan değişiklikleri önce veritabanına yazılır
+        WaitingList updatedWaitingList = waitingListRepository.saveAndFlush(existingWaitingList);
+        
+        // Gösterim sırası değiştirilmek isteniyorsa kayıt yeniden sıralama ile taşınır
+        if (waitingListDto.getPosition() != null) {
+            reorderWaitingList(updatedWaitingList.getEvent().getId(),
+                    List.of(new WaitingListMoveDto(id, waitingListDto.getPosition())));
+        }
+        publishWaitlistChanged(updatedWaitingList.getEvent().getId());
+        return toDisplayDto(updatedWaitingList);
     }
 
     @Override
@@ -214,7 +276,8 @@ public class WaitingListServiceImpl implements WaitingListService {
         }
         
         WaitingList updatedWaitingList = waitingListRepository.save(waitingList);
-        return waitingListMapper.toDto(updatedWaitingList);
+        publishWaitlistChanged(updatedWaitingList.getEvent().getId());
+        return toDisplayDto(updatedWaitingList);
     }
 
     @Override
@@ -229,7 +292,9 @@ public class WaitingListServiceImpl implements WaitingListService {
         waitingList.setStatus(WaitingList.WaitingStatus.NOTIFIED);
         
         WaitingList updatedWaitingList = waitingListRepository.save(waitingList);
-        return waitingListMapper.toDto(updatedWaitingList);
+        publishOfferScheduled(updatedWaitingList);
+        publishWaitlistChanged(updatedWaitingList.getEvent().getId());
+        return toDisplayDto(updatedWaitingList);
     }
 
     @Override
@@ -239,7 +304,7 @@ public class WaitingListServiceImpl implements WaitingListService {
         List<WaitingList> waitingLists = waitingListRepository.findByNotificationSentAndStatus(
                 false, WaitingList.WaitingStatus.WAITING);
         
-        return waitingListMapper.toDtoList(waitingLists);
+        return toDisplayDtoList(waitingLists);
     }
 
     @Override
@@ -249,16 +314,16 @@ public class WaitingListServiceImpl implements WaitingListService {
         List<WaitingList> expiredNotifications = waitingListRepository.findByStatusAndResponseDeadlineBefore(
                 WaitingList.WaitingStatus.NOTIFIED, now);
         
-        return waitingListMapper.toDtoList(expiredNotifications);
+        return toDisplayDtoList(expiredNotifications);
     }
 
     @Override
     @Transactional
     public void deleteWaitingList(Long id) {
-        if (!waitingListRepository.existsById(id)) {
-            throw new ResourceNotFoundException("WaitingList", "id", id);
-        }
-        waitingListRepository.deleteById(id);
+        WaitingList waitingList = waitingListRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "id", id));
+        waitingListRepository.delete(waitingList);
+        publishWaitlistChanged(waitingList.getEvent().getId());
     }
 
     @Override
@@ -267,15 +332,10 @@ public class WaitingListServiceImpl implements WaitingListService {
         WaitingList waitingList = waitingListRepository.findByEventIdAndUserId(eventId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "eventId and userId", eventId + ", " + userId));
         
+        // Kalan kayıtlar yeniden numaralanmaz: pozisyon yalnızca sıralama anahtarıdır, oluşan boşluk
+        // gösterim sırasını etkilemez (sıra numarası okuma anında hesaplanır)
         waitingListRepository.delete(waitingList);
-        
-        // Sıralama pozisyonlarını yeniden düzenle
-        List<WaitingList> remainingList = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
-        for (int i = 0; i < remainingList.size(); i++) {
-            WaitingList item = remainingList.get(i);
-            item.setPosition(i + 1);
-            waitingListRepository.save(item);
-        }
+        publishWaitlistChanged(eventId);
     }
 
     @Override
@@ -284,22 +344,36 @@ public class WaitingListServiceImpl implements WaitingListService {
         WaitingList waitingList = waitingListRepository.findById(waitingListId)
                 .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "id", waitingListId));
         
-        // Kullanıcıyı etkinliğe katılımcı olarak ekle
-        EventParticipation participation = EventParticipation.builder()
-                .event(waitingList.getEvent())
-                .user(waitingList.getUser())
-                .status(EventParticipation.ParticipationStatus.REGISTERED)
-                .registrationDate(LocalDateTime.now())
-                .build();
-        
-        eventParticipationRepository.save(participation);
+        requireNotInBurstMode(waitingList.getEvent());
+        Long eventId = waitingList.getEvent().getId();
+        Long userId = waitingList.getUser().getId();
         
-        // Bekleme listesi durumunu ACCEPTED olarak güncelle
+        // Durum koşullu olarak ACCEPTED yapılır: aynı kayıt ikinci kez (ya da zaten kabul edilmişken) terfi
+        // ettirilirse güncelleme 0 döner ve koltuk tekrar ayrılmaz
+        LocalDateTime now = LocalDateTime.now();
+        if (waitingListRepository.acceptIfWaiting(waitingListId, now) == 0) {
+            throw new IllegalStateException("Bekleme listesi kaydı artık beklemede değil: " + waitingListId);
+        }
         waitingList.setStatus(WaitingList.WaitingStatus.ACCEPTED);
-        waitingList.setResponseDate(LocalDateTime.now());
-        WaitingList updatedWaitingList = waitingListRepository.save(waitingList);
+        waitingList.setResponseDate(now);
+        
+        // Kullanıcının zaten aktif katılımı varsa koltuk ayrılmaz; kayıt yalnızca kabul edilmiş olarak kapanır
+        if (!eventParticipationRepository.existsByEventIdAndUserIdAndStatusIn(
+                eventId, userId, EventServiceImpl.ACTIVE_PARTICIPATION_STATUSES)) {
+            // Kontenjanı atomik olarak ayır (başarısız olursa işlem geri alınır, kayıt beklemede kalır)
+            if (eventRepository.tryReserveSeat(eventId) == 0) {
+                if (eventRepository.isBurstMode(eventId)) {
+                    throw new IllegalStateException("Etkinlik yoğun kayıt modunda, bekleme listesinden kayıt yapılamaz: " + eventId);
+                }
+                throw new IllegalStateException("Event capacity is full");
+            }
+            
+            // Kullanıcıyı etkinliğe katılımcı olarak ekle
+            saveParticipation(waitingList.getEvent(), waitingList.getUser());
+        }
+        publishWaitlistChanged(eventId);
         
-        return waitingListMapper.toDto(updatedWaitingList);
+        return toDisplayDto(waitingList);
     }
 
     @Override
@@ -313,24 +387,75 @@ public class WaitingListServiceImpl implements WaitingListService {
 
     @Override
     @Transactional
-    public List<WaitingListDto> reorderWaitingList(Long eventId, List<WaitingListDto> waitingListItems) {
-        // Önce eventId ile ilgili tüm bekleme listesi öğelerini al
-        List<WaitingList> existingItems = waitingListRepository.findByEventId(eventId);
-        
-        // DTO listesindeki her öğe için, veritabanındaki karşılığını bul ve pozisyonunu güncelle
-        for (WaitingListDto itemDto : waitingListItems) {
-            WaitingList item = existingItems.stream()
-                    .filter(wl -> wl.getId().equals(itemDto.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("WaitingList", "id", itemDto.getId()));
-            
-            item.setPosition(itemDto.getPosition());
-            waitingListRepository.save(item);
+    public List<WaitingListDto> reorderWaitingList(Long eventId, List<WaitingListMoveDto> moves) {
+        // Mevcut sıra [ID, pozisyon] olarak okunur; ID → sıra indeksi eşlemesi taşımaları O(1) doğrular
+        List<Object[]> rows = waitingListRepository.findOrderKeysByEventId(eventId);
+        int size = rows.size();
+        long[] currentIds = new long[size];
+        Integer[] currentKeys = new Integer[size];
+        Map<Long, Integer> indexById = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            currentIds[i] = (Long) rows.get(i)[0];
+            currentKeys[i] = (Integer) rows.get(i)[1];
+            indexById.put(currentIds[i], i);
         }
         
-        // Güncellenen listeyi döndür
-        List<WaitingList> updatedItems = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
-        return waitingListMapper.toDtoList(updatedItems);
+        boolean[] moved = new boolean[size];
+        for (WaitingListMoveDto move : moves) {
+            Integer index = indexById.get(move.getId());
+            if (index == null) {
+                throw new ResourceNotFoundException("WaitingList", "id", move.getId());
+            }
+            if (move.getPosition() == null) {
+                throw new IllegalArgumentException("Bekleme listesi pozisyonu belirtilmeli: " + move.getId());
+            }
+            if (moved[index]) {
+                throw new IllegalArgumentException("Bekleme listesi kaydı birden fazla kez gönderildi: " + move.getId());
+            }
+            moved[index] = true;
+        }
+        
+        // Taşınmayan kayıtlar mevcut sıralarını korur; taşınanlar hedef sıralarına göre araya birleştirilir
+        List<WaitingListMoveDto> sortedMoves = new ArrayList<>(moves);
+        sortedMoves.sort(Comparator.comparing(WaitingListMoveDto::getPosition));
+        long[] newIds = new long[size];
+        int next = 0;
+        int moveIndex = 0;
+        for (int slot = 0; slot < size; slot++) {
+            while (next < size && moved[next]) {
+                next++;
+            }
+            if (moveIndex < sortedMoves.size()
+                    && (next == size || sortedMoves.get(moveIndex).getPosition() - 1 <= slot)) {
+                newIds[slot] = sortedMoves.get(moveIndex++).getId();
+            } else {
+                newIds[slot] = currentIds[next++];
+            }
+        }
+        
+        // Yalnızca sırası değişen aralıktaki pozisyon değerleri kayıtlar arasında yer değiştirir
+        List<Long> updatedIds = new ArrayList<>();
+        List<Integer> updatedKeys = new ArrayList<>();
+        for (int slot = 0; slot < size; slot++) {
+            if (newIds[slot] != currentIds[slot]) {
+                updatedIds.add(newIds[slot]);
+                updatedKeys.add(currentKeys[slot]);
+            }
+        }
+        
+        if (!updatedIds.isEmpty()) {
+            // Tek ifade: (event_id, position) kısıtı ertelenebilir olduğundan ara durumdaki çakışmalar sorun olmaz
+            jdbcTemplate.update(REORDER_POSITIONS_SQL, ps -> {
+                ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", updatedIds.toArray()));
+                ps.setArray(3, ps.getConnection().createArrayOf("integer", updatedKeys.toArray()));
+                ps.setLong(4, eventId);
+            });
+            publishWaitlistChanged(eventId);
+        }
+        
+        List<WaitingList> reordered = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
+        return toRankedDtoList(reordered);
     }
 
     @Override
@@ -362,24 +487,27 @@ public class WaitingListServiceImpl implements WaitingListService {
             item.setStatus(WaitingList.WaitingStatus.NOTIFIED);
             
             WaitingList updatedItem = waitingListRepository.save(item);
+            publishOfferScheduled(updatedItem);
             notifiedItems.add(updatedItem);
         }
+        if (!notifiedItems.isEmpty()) {
+            publishWaitlistChanged(eventId);
+        }
         
-        return waitingListMapper.toDtoList(notifiedItems);
+        return toDisplayDtoList(notifiedItems);
     }
 
     @Override
     @Transactional
     public int autoPromoteFromWaitingList(Long eventId, int limit) {
-        // Etkinliği kontrol et
-        Event event = eventRepository.findById(eventId)
+        // Etkinlik satırı kilitlenir: boş koltuk sayısı bir kez hesaplanır, eşzamanlı tekil kayıtlar bekler
+        Event event = eventRepository.findByIdForUpdate(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        requireNotInBurstMode(event);
         
-        // Mevcut katılımcı sayısını hesapla
-        int currentParticipants = eventParticipationRepository.countParticipantsByEventId(eventId);
-        
-        // Boş kontenjan sayısını hesapla
-        int availableSlots = event.getCapacity() - currentParticipants;
+        // Boş kontenjan sayısını katılımcı sayacından hesapla (kontenjan tanımsızsa sınırsız)
+        Integer capacity = event.getEffectiveCapacity();
+        int availableSlots = capacity == null ? Integer.MAX_VALUE : capacity - event.getParticipantCount();
         if (availableSlots <= 0) {
             return 0;  // Boş kontenjan yok
         }
@@ -387,37 +515,107 @@ public class WaitingListServiceImpl implements WaitingListService {
         // Limit değerini boş kontenjan sayısı ile sınırla
         int slotsToFill = (limit == 0 || limit > availableSlots) ? availableSlots : limit;
         
-        // Bekleme listesindeki kullanıcıları sıraya göre al
-        List<WaitingList> waitingList = waitingListRepository.findByEventIdOrderByPositionAsc(eventId);
-        waitingList = waitingList.stream()
-                .filter(wl -> wl.getStatus() == WaitingList.WaitingStatus.WAITING || 
-                             wl.getStatus() == WaitingList.WaitingStatus.ACCEPTED)
-                .limit(slotsToFill)
-                .collect(Collectors.toList());
+        // Adaylar tek sorguda: sıradaki ve henüz aktif katılımı olmayan kişiler (varsa iptal edilmiş katılım ID'si ile)
+        List<Object[]> candidates = waitingListRepository.findPromotionCandidates(eventId, PageRequest.of(0, slotsToFill));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
         
-        int promotedCount = 0;
-        for (WaitingList waitingItem : waitingList) {
-            // Daha önce katılımcı olarak eklenmiş mi kontrol et
-            if (eventParticipationRepository.findByEventIdAndUserId(eventId, waitingItem.getUser().getId()).isEmpty()) {
-                // Katılımcı olarak ekle
-                EventParticipation participation = EventParticipation.builder()
-                        .event(event)
-                        .user(waitingItem.getUser())
-                        .status(EventParticipation.ParticipationStatus.REGISTERED)
-                        .registrationDate(LocalDateTime.now())
-                        .build();
-                
-                eventParticipationRepository.save(participation);
-                
-                // Bekleme listesi durumunu güncelle
-                waitingItem.setStatus(WaitingList.WaitingStatus.ACCEPTED);
-                waitingItem.setResponseDate(LocalDateTime.now());
-                waitingListRepository.save(waitingItem);
-                
-                promotedCount++;
+        List<Long> promotedIds = new ArrayList<>(candidates.size());
+        List<Long> newParticipantIds = new ArrayList<>();
+        List<Long> reactivatedIds = new ArrayList<>();
+        for (Object[] candidate : candidates) {
+            promotedIds.add((Long) candidate[0]);
+            if (candidate[2] != null) {
+                reactivatedIds.add((Long) candidate[2]);
+            } else {
+                newParticipantIds.add((Long) candidate[1]);
             }
         }
         
-        return promotedCount;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (eventRepository.addParticipants(eventId, promotedIds.size()) == 0) {
+            throw new IllegalStateException("Etkinlik yoğun kayıt modunda, bekleme listesinden kayıt yapılamaz: " + eventId);
+        }
+        if (!reactivatedIds.isEmpty()) {
+            eventParticipationRepository.reactivateCancelled(reactivatedIds, now.toLocalDateTime());
+        }
+        if (!newParticipantIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(EventServiceImpl.INSERT_PARTICIPATION_SQL, newParticipantIds,
+                    EventServiceImpl.BULK_BATCH_SIZE, (ps, userId) -> {
+                        ps.setLong(1, eventId);
+                        ps.setLong(2, userId);
+                        ps.setTimestamp(3, now);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    });
+        }
+        waitingListRepository.markAccepted(promotedIds, now.toLocalDateTime());
+        publishWaitlistChanged(eventId);
+        
+        return promotedIds.size();
+    }
+
+    // Yoğun kayıt modunda koltuklar yalnızca RegistrationSequencer'ın bellekteki defterinden dağıtılır;
+    // defterin görmediği bir yoldan koltuk ayrılırsa etkinlik kontenjanı aşılır
+    private static void requireNotInBurstMode(Event event) {
+        if (Boolean.TRUE.equals(event.getBurstMode())) {
+            throw new IllegalStateException("Etkinlik yoğun kayıt modunda, bekleme listesinden kayıt yapılamaz: " + event.getId());
+        }
+    }
+    
+    // Yanıt süresi takibi commit sonrasında WaitlistOfferExpiryService tarafından başlatılır
+    private void publishOfferScheduled(WaitingList offer) {
+        eventPublisher.publishEvent(new WaitlistOfferExpiryService.OfferScheduled(
+                offer.getId(), offer.getEvent().getId(), offer.getResponseDeadline()));
+    }
+    
+    // Canlı bekleme listesi akışı commit sonrasında WaitlistStreamService tarafından güncellenir
+    private void publishWaitlistChanged(Long eventId) {
+        eventPublisher.publishEvent(new WaitlistStreamService.WaitlistChanged(eventId));
+    }
+    
+    // Etkinlik sırasına göre dizilmiş tam listede gösterim sırası liste indeksidir
+    private List<WaitingListDto> toRankedDtoList(List<WaitingList> orderedItems) {
+        List<WaitingListDto> dtos = waitingListMapper.toDtoList(orderedItems);
+        for (int i = 0; i < dtos.size(); i++) {
+            dtos.get(i).setPosition(i + 1);
+        }
+        return dtos;
+    }
+    
+    // Kalıcı pozisyon boşluklu bir sıralama anahtarıdır; dışarıya verilen sıra numarası okuma anında hesaplanır
+    private List<WaitingListDto> toDisplayDtoList(List<WaitingList> items) {
+        List<WaitingListDto> dtos = waitingListMapper.toDtoList(items);
+        if (dtos.isEmpty()) {
+            return dtos;
+        }
+        
+        List<Long> ids = dtos.stream().map(WaitingListDto::getId).collect(Collectors.toList());
+        Map<Long, Integer> displayPositions = new HashMap<>();
+        for (Object[] row : waitingListRepository.findDisplayPositions(ids)) {
+            displayPositions.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        dtos.forEach(dto -> dto.setPosition(displayPositions.getOrDefault(dto.getId(), dto.getPosition())));
+        return dtos;
+    }
+    
+    private WaitingListDto toDisplayDto(WaitingList item) {
+        return toDisplayDtoList(List.of(item)).get(0);
+    }
+    
+    // İptal edilmiş bir katılım varsa yeniden aktifleştirir, yoksa yeni katılım oluşturur
+    private void saveParticipation(Event event, User user) {
+        EventParticipation participation = eventParticipationRepository.findByEventIdAndUserId(event.getId(), user.getId())
+                .orElseGet(() -> EventParticipation.builder()
+                        .event(event)
+                        .user(user)
+                        .build());
+        
+        participation.setStatus(EventParticipation.ParticipationStatus.REGISTERED);
+        participation.setRegistrationDate(LocalDateTime.now());
+        participation.setCancellationDate(null);
+        participation.setCancellationReason(null);
+        eventParticipationRepository.save(participation);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,213 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.repository.WaitingListRepository;
+import com.example.cmManagementSystem.service.WaitingListService;
+import com.example.cmManagementSystem.service.WaitlistOfferExpiryService;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class WaitlistOfferExpiryServiceImpl implements WaitlistOfferExpiryService {
+
+    // pg_advisory_xact_lock(namespace, event_id): aynı etkinliğin teklifleri birden fazla uygulama
+    // örneğinde aynı anda işlenmez; kilit işlem sonunda kendiliğinden bırakılır
+    private static final int EVENT_LOCK_NAMESPACE = 0x5741_4954;
+    private static final String LOCK_EVENT_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    private static final String EXPIRE_OFFERS_SQL =
+            "UPDATE waiting_lists SET status = 'EXPIRED', updated_at = ? " +
+            "WHERE event_id = ? AND status = 'NOTIFIED' AND response_deadline <= ?";
+
+    private static final String BURST_MODE_SQL = "SELECT burst_mode FROM events WHERE id = ?";
+
+    private final WaitingListRepository waitingListRepository;
+    private final WaitingListService waitingListService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration horizon;
+
+    private final DelayQueue<OfferDeadline> queue = new DelayQueue<>();
+    // Kuyruktaki kayıtların güncel son tarihleri; aynı kayıt tekrar eklenmez, eski son tarihler atlanır
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-offer-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public WaitlistOfferExpiryServiceImpl(
+            WaitingListRepository waitingListRepository,
+            WaitingListService waitingListService,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${waitlist.expiry.enabled:true}") boolean enabled,
+            @Value("${waitlist.expiry.horizon-minutes:10}") long horizonMinutes) {
+        this.waitingListRepository = waitingListRepository;
+        this.waitingListService = waitingListService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+
+        // Her etkinliğin süre aşımı kendi işleminde commit edilir
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        loadUpcomingDeadlines();
+        worker.submit(this::processQueue);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    // Kuyruk yalnızca ufuk süresi içindeki son tarihleri tutar; daha ileridekiler periyodik olarak yüklenir.
+    // Başka bir uygulama örneğinde verilen teklifler de bu yüklemeyle takibe alınır.
+    @Scheduled(fixedDelayString = "${waitlist.expiry.refresh-interval-ms:60000}")
+    public void loadUpcomingDeadlines() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        for (Object[] row : waitingListRepository.findOfferDeadlinesUntil(until)) {
+            schedule((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferScheduled(OfferScheduled offer) {
+        if (enabled) {
+            schedule(offer.waitingListId(), offer.eventId(), offer.responseDeadline());
+        }
+    }
+
+    @Override
+    public void schedule(Long waitingListId, Long eventId, LocalDateTime responseDeadline) {
+        if (responseDeadline == null || responseDeadline.isAfter(LocalDateTime.now().plus(horizon))) {
+            return;
+        }
+        LocalDateTime previous = scheduled.put(waitingListId, responseDeadline);
+        if (!responseDeadline.equals(previous)) {
+            queue.put(new OfferDeadline(waitingListId, eventId, responseDeadline));
+        }
+    }
+
+    @Override
+    public int expireOffers(Long eventId) {
+        Integer expired = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_EVENT_SQL, EVENT_LOCK_NAMESPACE, eventId.intValue());
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int count = jdbcTemplate.update(EXPIRE_OFFERS_SQL, now, eventId, now);
+            if (count > 0) {
+                // Durumlar doğrudan SQL ile değiştiğinden aboneler ayrıca bilgilendirilir (commit sonrası iletilir)
+                eventPublisher.publishEvent(new WaitlistStreamService.WaitlistChanged(eventId));
+            }
+            if (count > 0 && jdbcTemplate.queryForList(BURST_MODE_SQL, Boolean.class, eventId).contains(Boolean.TRUE)) {
+                // Yoğun kayıt modunda koltuklar yalnızca bellekteki defterden dağıtılır; otomatik kayıt yapılmaz
+                log.info("Etkinlik {} için {} teklifin süresi doldu; etkinlik yoğun kayıt modunda olduğundan otomatik kayıt yapılmadı",
+                        eventId, count);
+            } else if (count > 0) {
+                // Süresi dolan her teklif için sıradaki bekleyen kişiye yer verilir
+                int promoted = waitingListService.autoPromoteFromWaitingList(eventId, count);
+                log.info("Etkinlik {} için {} teklifin süresi doldu, {} kişi bekleme listesinden kaydedildi",
+                        eventId, count, promoted);
+            }
+            return count;
+        });
+        return expired == null ? 0 : expired;
+    }
+
+    private void processQueue() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<OfferDeadline> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due);
+
+                // Aynı etkinliğin süresi dolan teklifleri tek işlemde ele alınır
+                Set<Long> eventIds = new LinkedHashSet<>();
+                for (OfferDeadline deadline : due) {
+                    if (scheduled.remove(deadline.waitingListId, deadline.responseDeadline)) {
+                        eventIds.add(deadline.eventId);
+                    }
+                }
+                for (Long eventId : eventIds) {
+                    try {
+                        expireOffers(eventId);
+                    } catch (RuntimeException e) {
+                        log.warn("Etkinlik {} için süresi dolan teklifler işlenemedi", eventId, e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gecikme kuyruğu elemanı: teklifin son tarihi geldiğinde kuyruktan alınabilir hale gelir
+     */
+    private static final class OfferDeadline implements Delayed {
+
+        private final Long waitingListId;
+        private final Long eventId;
+        private final LocalDateTime responseDeadline;
+
+        private OfferDeadline(Long waitingListId, Long eventId, LocalDateTime responseDeadline) {
+            this.waitingListId = waitingListId;
+            this.eventId = eventId;
+            this.responseDeadline = responseDeadline;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), responseDeadline));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return responseDeadline.compareTo(((OfferDeadline) other).responseDeadline);
+        }
+    }
+}
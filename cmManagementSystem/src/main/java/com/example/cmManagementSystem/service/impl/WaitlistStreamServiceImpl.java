@@ -0,0 +1,271 @@
+package com.example.cmManagementSystem.service.impl;
+
+import com.example.cmManagementSystem.dto.WaitlistStatusDto;
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.entity.WaitingList;
+import com.example.cmManagementSystem.exception.StreamCapacityExceededException;
+import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.WaitingListRepository;
+import com.example.cmManagementSystem.service.WaitlistStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+public class WaitlistStreamServiceImpl implements WaitlistStreamService {
+
+    private static final String STATUS_EVENT_NAME = "waitlist-status";
+    private static final int STATUS_QUERY_CHUNK_SIZE = 1000;
+
+    private final WaitingListRepository waitingListRepository;
+    private final EventParticipationRepository participationRepository;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final long heartbeatIntervalMs;
+    private final long dispatchIntervalMs;
+    private final int maxConnections;
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    // Son gönderimden bu yana değişen etkinlikler; aynı etkinlikteki art arda değişiklikler tek sorguda birleşir
+    private final Set<Long> dirtyEvents = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Yazma işlemleri küçük bir havuzda yapılır; boştaki bağlantılar iş parçacığı tutmaz
+    private final ExecutorService sender;
+
+    @Autowired
+    public WaitlistStreamServiceImpl(
+            WaitingListRepository waitingListRepository,
+            EventParticipationRepository participationRepository,
+            @Value("${waitlist.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${waitlist.stream.buffer-size:8}") int bufferSize,
+            @Value("${waitlist.stream.heartbeat-interval-ms:20000}") long heartbeatIntervalMs,
+            @Value("${waitlist.stream.dispatch-interval-ms:250}") long dispatchIntervalMs,
+            @Value("${waitlist.stream.max-connections:10000}") int maxConnections,
+            @Value("${waitlist.stream.sender-threads:4}") int senderThreads) {
+        this.waitingListRepository = waitingListRepository;
+        this.participationRepository = participationRepository;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.dispatchIntervalMs = dispatchIntervalMs;
+        this.maxConnections = maxConnections;
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::dispatchChanges, dispatchIntervalMs, dispatchIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+        subscriptions.values().forEach(set -> set.forEach(subscription -> subscription.emitter.complete()));
+    }
+
+    @Override
+    public SseEmitter subscribe(Long eventId, Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new StreamCapacityExceededException("Canlı bekleme listesi bağlantı sınırına ulaşıldı");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(eventId, userId, emitter, bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(error -> unsubscribe(subscription));
+        subscriptions.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        // İlk durum bir sonraki gönderim turunda iletilir
+        dirtyEvents.add(eventId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistChanged(WaitlistChanged change) {
+        if (subscriptions.containsKey(change.eventId())) {
+            dirtyEvents.add(change.eventId());
+        }
+    }
+
+    private void dispatchChanges() {
+        // Bu turda yeniden kuyruğa alınacaklar döngü bittikten sonra eklenir; aynı turda tekrar işlenmez
+        Set<Long> requeued = new HashSet<>();
+        Iterator<Long> iterator = dirtyEvents.iterator();
+        while (iterator.hasNext()) {
+            Long eventId = iterator.next();
+            iterator.remove();
+
+            Set<Subscription> eventSubscriptions = subscriptions.get(eventId);
+            if (eventSubscriptions == null || eventSubscriptions.isEmpty()) {
+                continue;
+            }
+
+            try {
+                Map<Long, WaitlistStatusDto> statuses = loadStatuses(eventId, eventSubscriptions);
+                for (Subscription subscription : eventSubscriptions) {
+                    WaitlistStatusDto status = statuses.get(subscription.userId);
+                    if (status == null) {
+                        // Sorgudan sonra abone oldu; bir sonraki turda gönderilir
+                        requeued.add(eventId);
+                        continue;
+                    }
+                    // Yalnızca durumu gerçekten değişen kullanıcılara gönderilir
+                    if (!status.equals(subscription.lastStatus)) {
+                        subscription.lastStatus = status;
+                        enqueue(subscription, SseEmitter.event().name(STATUS_EVENT_NAME).data(status));
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Bekleme listesi akışı güncellenemedi. eventId={}", eventId, e);
+            }
+        }
+        dirtyEvents.addAll(requeued);
+    }
+
+    // Abone kullanıcıların durumu iki sorguda okunur (bekleme sırası ROW_NUMBER ile, kayıt durumu)
+    private Map<Long, WaitlistStatusDto> loadStatuses(Long eventId, Set<Subscription> eventSubscriptions) {
+        Map<Long, WaitlistStatusDto> statuses = new HashMap<>();
+        for (Subscription subscription : eventSubscriptions) {
+            statuses.computeIfAbsent(subscription.userId, userId -> WaitlistStatusDto.builder()
+                    .eventId(eventId)
+                    .userId(userId)
+                    .build());
+        }
+
+        List<Long> userIds = new ArrayList<>(statuses.keySet());
+        for (int from = 0; from < userIds.size(); from += STATUS_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + STATUS_QUERY_CHUNK_SIZE, userIds.size()));
+
+            for (Object[] row : waitingListRepository.findStatusesByEventIdAndUserIds(eventId, chunk)) {
+                WaitlistStatusDto status = statuses.get(((Number) row[0]).longValue());
+                status.setWaitlistStatus(WaitingList.WaitingStatus.valueOf((String) row[1]));
+                status.setPosition(((Number) row[2]).intValue());
+                status.setResponseDeadline(row[3] instanceof Timestamp deadline
+                        ? deadline.toLocalDateTime() : (LocalDateTime) row[3]);
+            }
+            for (Object[] row : participationRepository.findStatusesByEventIdAndUserIds(eventId, chunk)) {
+                statuses.get((Long) row[0]).setParticipationStatus((EventParticipation.ParticipationStatus) row[1]);
+            }
+        }
+        return statuses;
+    }
+
+    // Uzun süre veri gönderilmeyen bağlantılara yorum satırı gönderilir; kopan bağlantılar böylece temizlenir
+    private void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Set<Subscription> eventSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : eventSubscriptions) {
+                if (now - subscription.lastSentAt >= heartbeatIntervalMs && subscription.buffer.isEmpty()) {
+                    enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        }
+    }
+
+    // Tampon sınırlıdır: dolarsa en eski mesaj atılır (durum mesajları anlık görüntü olduğundan en yenisi yeterlidir)
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder message) {
+        while (!subscription.buffer.offer(message)) {
+            subscription.buffer.poll();
+        }
+        if (subscription.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder message;
+            while ((message = subscription.buffer.poll()) != null) {
+                subscription.emitter.send(message);
+                subscription.lastSentAt = System.currentTimeMillis();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // İstemci bağlantıyı kapatmış
+            unsubscribe(subscription);
+            subscription.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscription.draining.set(false);
+        }
+
+        // Boşaltma bittikten sonra gelen mesajlar için tekrar planla
+        if (!subscription.buffer.isEmpty() && subscription.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscription.buffer.clear();
+        subscriptions.computeIfPresent(subscription.eventId, (eventId, eventSubscriptions) -> {
+            eventSubscriptions.remove(subscription);
+            return eventSubscriptions.isEmpty() ? null : eventSubscriptions;
+        });
+        connectionCount.decrementAndGet();
+    }
+
+    /**
+     * Tek bir SSE bağlantısı ve sınırlı gönderim tamponu
+     */
+    private static final class Subscription {
+
+        private final Long eventId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile WaitlistStatusDto lastStatus;
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        private Subscription(Long eventId, Long userId, SseEmitter emitter, int bufferSize) {
+            this.eventId = Objects.requireNonNull(eventId);
+            this.userId = Objects.requireNonNull(userId);
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
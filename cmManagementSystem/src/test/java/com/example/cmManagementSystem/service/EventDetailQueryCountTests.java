@@ -0,0 +1,121 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.EventDetailDto;
+import com.example.cmManagementSystem.entity.Club;
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventProgram;
+import com.example.cmManagementSystem.entity.EventSpeaker;
+import com.example.cmManagementSystem.entity.Sponsor;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.entity.WaitingList;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class EventDetailQueryCountTests {
+
+	// Etkinlik (+kulüp, oluşturan), konuşmacılar, program (+konuşmacı), sponsorlar, bekleme listesi sayısı
+	private static final long MAX_DETAIL_QUERIES = 5;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void eventDetailIsLoadedWithBoundedNumberOfQueries() {
+		Long eventId = createEventWithDetails(5);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		EventDetailDto detail = eventService.getEventDetail(eventId);
+
+		assertEquals(5, detail.getSpeakers().size());
+		assertEquals(5, detail.getProgram().size());
+		assertEquals(5, detail.getSponsors().size());
+		assertEquals(5, detail.getWaitlistCount());
+		assertTrue(statistics.getPrepareStatementCount() <= MAX_DETAIL_QUERIES,
+				"Etkinlik detayı için çalıştırılan sorgu sayısı: " + statistics.getPrepareStatementCount());
+	}
+
+	private Long createEventWithDetails(int childCount) {
+		User user = newUser("detail-owner");
+
+		Club club = new Club();
+		club.setName("Detay Test Kulübü");
+		entityManager.persist(club);
+
+		Event event = new Event();
+		event.setTitle("Detay Test Etkinliği");
+		event.setStartDate(LocalDateTime.now().plusDays(7));
+		event.setEndDate(LocalDateTime.now().plusDays(7).plusHours(3));
+		event.setClub(club);
+		event.setCreatedBy(user);
+		entityManager.persist(event);
+
+		for (int i = 0; i < childCount; i++) {
+			EventSpeaker speaker = new EventSpeaker();
+			speaker.setEvent(event);
+			speaker.setName("Konuşmacı " + i);
+			speaker.setOrderIndex(i);
+			entityManager.persist(speaker);
+
+			EventProgram program = new EventProgram();
+			program.setEvent(event);
+			program.setTitle("Oturum " + i);
+			program.setStartTime(event.getStartDate().plusMinutes(30L * i));
+			program.setEndTime(event.getStartDate().plusMinutes(30L * (i + 1)));
+			program.setOrderIndex(i);
+			program.setSpeaker(speaker);
+			program.setType(EventProgram.ProgramType.SESSION);
+			entityManager.persist(program);
+
+			Sponsor sponsor = new Sponsor();
+			sponsor.setName("Sponsor " + i);
+			sponsor.setType(Sponsor.SponsorType.FINANCIAL);
+			sponsor.setLevel(Sponsor.SponsorLevel.GOLD);
+			entityManager.persist(sponsor);
+			event.getSponsors().add(sponsor);
+
+			WaitingList waitingList = new WaitingList();
+			waitingList.setEvent(event);
+			waitingList.setUser(newUser("detail-waiting-" + i));
+			waitingList.setPosition(i + 1);
+			entityManager.persist(waitingList);
+		}
+
+		// Ölçüm veritabanından okumayı kapsasın diye persistence context boşaltılır
+		entityManager.flush();
+		entityManager.clear();
+		return event.getId();
+	}
+
+	private User newUser(String name) {
+		User user = new User();
+		user.setName(name);
+		user.setEmail(name + "-" + System.nanoTime() + "@test.local");
+		user.setPassword("secret");
+		user.setRole(User.Role.STUDENT);
+		entityManager.persist(user);
+		return user;
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.CursorPage;
+import com.example.cmManagementSystem.dto.EventDto;
+import com.example.cmManagementSystem.entity.Club;
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class EventListQueryCountTests {
+
+	private static final int EVENT_COUNT = 20;
+
+	// Sayfa içeriği (+kulüp, oluşturan) ve toplam kayıt sayısı
+	private static final long MAX_PAGE_QUERIES = 2;
+
+	// Keyset sayfalamada COUNT sorgusu çalışmaz
+	private static final long MAX_CURSOR_QUERIES = 1;
+
+	private static final String CATEGORY = "query-count-test";
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long clubId;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		clubId = createEvents(EVENT_COUNT);
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Test
+	void findAllPageUsesBoundedNumberOfQueries() {
+		Pageable pageable = PageRequest.of(0, EVENT_COUNT);
+		assertPageQueries("findAll", () -> eventService.findAll(pageable));
+	}
+
+	@Test
+	void findByStatusPageUsesBoundedNumberOfQueries() {
+		Pageable pageable = PageRequest.of(0, EVENT_COUNT);
+		assertPageQueries("findByStatus", () -> eventService.findByStatus(Event.EventStatus.APPROVED, pageable));
+	}
+
+	@Test
+	void findByCategoryPageUsesBoundedNumberOfQueries() {
+		Pageable pageable = PageRequest.of(0, EVENT_COUNT);
+		Page<EventDto> page = assertPageQueries("findByCategory", () -> eventService.findByCategory(CATEGORY, pageable));
+		assertEquals(EVENT_COUNT, page.getNumberOfElements());
+	}
+
+	@Test
+	void findByClubIdPageUsesBoundedNumberOfQueries() {
+		Pageable pageable = PageRequest.of(0, EVENT_COUNT);
+		Page<EventDto> page = assertPageQueries("findByClubId", () -> eventService.findByClubId(clubId, pageable));
+		assertEquals(EVENT_COUNT, page.getNumberOfElements());
+	}
+
+	@Test
+	void cursorPageUsesSingleQuery() {
+		statistics.clear();
+
+		CursorPage<EventDto> page = eventService.findAllByCursor(Event.EventStatus.APPROVED, CATEGORY, null, EVENT_COUNT);
+
+		assertEquals(EVENT_COUNT, page.getContent().size());
+		assertTrue(statistics.getPrepareStatementCount() <= MAX_CURSOR_QUERIES,
+				"Keyset etkinlik sayfası için çalıştırılan sorgu sayısı: " + statistics.getPrepareStatementCount());
+	}
+
+	private Page<EventDto> assertPageQueries(String name, Supplier<Page<EventDto>> query) {
+		statistics.clear();
+
+		Page<EventDto> page = query.get();
+		// Kulüp ve oluşturan kullanıcı adları DTO'ya eşlenirken lazy yükleme tetiklenmemeli
+		page.forEach(dto -> {
+			dto.getClubName();
+			dto.getCreatedByName();
+		});
+
+		assertTrue(statistics.getPrepareStatementCount() <= MAX_PAGE_QUERIES,
+				name + " etkinlik sayfası için çalıştırılan sorgu sayısı: " + statistics.getPrepareStatementCount());
+		return page;
+	}
+
+	private Long createEvents(int count) {
+		Club club = new Club();
+		club.setName("Sorgu Sayısı Test Kulübü");
+		entityManager.persist(club);
+
+		LocalDateTime start = LocalDateTime.now().plusDays(7);
+		for (int i = 0; i < count; i++) {
+			// Her etkinliğin oluşturanı farklı: N+1 olursa kullanıcı başına ayrı sorgu görünür
+			Event event = new Event();
+			event.setTitle("Sorgu Sayısı Etkinliği " + i);
+			event.setCategory(CATEGORY);
+			event.setStatus(Event.EventStatus.APPROVED);
+			event.setStartDate(start.plusHours(i));
+			event.setEndDate(start.plusHours(i + 1));
+			event.setClub(club);
+			event.setCreatedBy(newUser("list-owner-" + i));
+			entityManager.persist(event);
+		}
+
+		// Ölçüm veritabanından okumayı kapsasın diye persistence context boşaltılır
+		entityManager.flush();
+		entityManager.clear();
+		return club.getId();
+	}
+
+	private User newUser(String name) {
+		User user = new User();
+		user.setName(name);
+		user.setEmail(name + "-" + System.nanoTime() + "@test.local");
+		user.setPassword("secret");
+		user.setRole(User.Role.STUDENT);
+		entityManager.persist(user);
+		return user;
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.example.cmManagementSystem.service.ServiceTestFixtures.runConcurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(ServiceTestFixtures.class)
+class EventRegistrationConcurrencyTests {
+
+	private static final int CAPACITY = 300;
+	private static final int USERS = 2_000;
+	private static final int THREADS = 64;
+
+	@Autowired
+	private ServiceTestFixtures fixtures;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private EventParticipationRepository participationRepository;
+
+	private Event event;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void concurrentRegistrationsAndCancellationsNeverOverbook() throws Exception {
+		event = fixtures.createEvent("Kayıt Eşzamanlılık Testi", CAPACITY, false);
+		List<User> users = fixtures.createUsers("registration", USERS);
+
+		// 1. tur: herkes aynı anda kaydolur; yalnızca kontenjan kadar kayıt başarılı olmalı
+		List<Callable<Object>> registrations = new ArrayList<>();
+		for (User user : users) {
+			registrations.add(() -> eventService.registerForEvent(event.getId(), user.getId()));
+		}
+		assertEquals(CAPACITY, countSucceeded(runConcurrently(THREADS, registrations)));
+		assertSeatCounterConsistent();
+		assertEquals(CAPACITY, participantCount());
+
+		// 2. tur: kayıtlılar aynı anda iki kez iptal eder, diğerleri aynı anda kaydolmaya çalışır
+		List<Long> registeredUserIds = participationRepository.findActiveUserIdsByEventId(event.getId());
+		List<Callable<Object>> mixed = new ArrayList<>();
+		for (User user : users) {
+			if (registeredUserIds.contains(user.getId())) {
+				mixed.add(() -> { eventService.cancelRegistration(event.getId(), user.getId()); return null; });
+				mixed.add(() -> { eventService.cancelRegistration(event.getId(), user.getId()); return null; });
+			} else {
+				mixed.add(() -> eventService.registerForEvent(event.getId(), user.getId()));
+			}
+		}
+		countSucceeded(runConcurrently(THREADS, mixed));
+		assertSeatCounterConsistent();
+
+		// 3. tur: iptal edenler aynı anda iki kez yeniden kaydolur
+		List<Callable<Object>> reRegistrations = new ArrayList<>();
+		for (Long userId : registeredUserIds) {
+			reRegistrations.add(() -> eventService.registerForEvent(event.getId(), userId));
+			reRegistrations.add(() -> eventService.registerForEvent(event.getId(), userId));
+		}
+		countSucceeded(runConcurrently(THREADS, reRegistrations));
+		assertSeatCounterConsistent();
+	}
+
+	// Dolu etkinlikte reddedilen kayıtlar IllegalStateException fırlatır; diğer hatalar testi bozar
+	private int countSucceeded(List<Future<Object>> results) throws InterruptedException {
+		int succeeded = 0;
+		for (Future<Object> result : results) {
+			try {
+				result.get();
+				succeeded++;
+			} catch (ExecutionException e) {
+				assertInstanceOf(IllegalStateException.class, e.getCause());
+			}
+		}
+		return succeeded;
+	}
+
+	private int participantCount() {
+		return eventRepository.findById(event.getId()).orElseThrow().getParticipantCount();
+	}
+
+	// participant_count aktif (REGISTERED/ATTENDED) katılım sayısına eşit olmalı ve kontenjanı aşmamalı
+	private void assertSeatCounterConsistent() {
+		int active = participationRepository.countParticipantsByEventId(event.getId());
+		assertEquals(active, participantCount(), "participant_count aktif katılım sayısından farklı");
+		assertTrue(active <= CAPACITY, "Kontenjan aşıldı: " + active);
+		assertEquals(active, participationRepository.findByEventIdAndStatus(
+				event.getId(), EventParticipation.ParticipationStatus.REGISTERED).size());
+	}
+
+}
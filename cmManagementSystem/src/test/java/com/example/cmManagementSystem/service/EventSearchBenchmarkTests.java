@@ -0,0 +1,102 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Tag("benchmark")
+class EventSearchBenchmarkTests {
+
+	private static final int EVENT_COUNT = 100_000;
+	private static final int TERM_COUNT = 500;
+	private static final int INDEX_QUERY_COUNT = 1_000;
+	private static final int LIKE_QUERY_COUNT = 50;
+	private static final String TITLE_PREFIX = "search-benchmark-";
+
+	@Autowired
+	private EventSearchIndex searchIndex;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+		searchIndex.rebuild();
+	}
+
+	@Test
+	void indexSearchOverHundredThousandEventsIsFasterThanLikeQuery() {
+		// Sabit uzunluklu terimler birbirinin öneki/alt dizesi olmaz: LIKE ve indeks aynı etkinlikleri bulur
+		Random random = new Random(42);
+		List<Object[]> rows = new ArrayList<>(EVENT_COUNT);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		Timestamp start = Timestamp.valueOf(LocalDateTime.now().plusDays(30));
+		Timestamp end = Timestamp.valueOf(LocalDateTime.now().plusDays(30).plusHours(2));
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			rows.add(new Object[]{TITLE_PREFIX + i + " " + term(random.nextInt(TERM_COUNT)),
+					"Açıklama " + term(random.nextInt(TERM_COUNT)), Event.EventStatus.APPROVED.name(),
+					start, end, false, now, now});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO events (title, description, status, start_date, end_date, " +
+				"burst_mode, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		assertTrue(searchIndex.rebuild() >= EVENT_COUNT);
+
+		Pageable pageable = PageRequest.of(0, 20);
+		String[] keywords = new String[INDEX_QUERY_COUNT];
+		for (int i = 0; i < INDEX_QUERY_COUNT; i++) {
+			keywords[i] = term(random.nextInt(TERM_COUNT));
+		}
+
+		long indexStarted = System.nanoTime();
+		for (String keyword : keywords) {
+			searchIndex.search(keyword, Event.EventStatus.APPROVED, pageable);
+		}
+		long indexNanosPerQuery = (System.nanoTime() - indexStarted) / INDEX_QUERY_COUNT;
+
+		long likeStarted = System.nanoTime();
+		for (int i = 0; i < LIKE_QUERY_COUNT; i++) {
+			eventRepository.searchEventsByKeyword(keywords[i], Event.EventStatus.APPROVED, pageable);
+		}
+		long likeNanosPerQuery = (System.nanoTime() - likeStarted) / LIKE_QUERY_COUNT;
+
+		assertTrue(indexNanosPerQuery < likeNanosPerQuery,
+				String.format("%d etkinlikte sorgu başına indeks: %d µs, LIKE: %d µs",
+						EVENT_COUNT, indexNanosPerQuery / 1_000, likeNanosPerQuery / 1_000));
+
+		// Birkaç terimde indeks ve LIKE sorgusu aynı sayıda etkinlik bulmalı
+		for (int i = 0; i < 10; i++) {
+			Page<Long> indexed = searchIndex.search(keywords[i], Event.EventStatus.APPROVED, pageable);
+			Page<Event> liked = eventRepository.searchEventsByKeyword(keywords[i], Event.EventStatus.APPROVED, pageable);
+			assertEquals(liked.getTotalElements(), indexed.getTotalElements(), "Terim: " + keywords[i]);
+		}
+	}
+
+	private static String term(int index) {
+		return String.format("bx%04d", index);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static com.example.cmManagementSystem.service.ServiceTestFixtures.runConcurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(ServiceTestFixtures.class)
+class RegistrationBurstBenchmarkTests {
+
+	private static final int USER_COUNT = 1_000;
+	private static final int CAPACITY = 500;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private ServiceTestFixtures fixtures;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private EventParticipationRepository participationRepository;
+
+	private List<User> users;
+
+	@AfterEach
+	void cleanUp() {
+		for (Event event : fixtures.events()) {
+			eventService.setBurstMode(event.getId(), false);
+		}
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void burstModeP99LatencyBeatsDirectRegistration() throws Exception {
+		users = fixtures.createUsers("burst", USER_COUNT);
+
+		Event direct = fixtures.createEvent("Doğrudan Kayıt Ölçümü", CAPACITY);
+		Event burst = fixtures.createEvent("Yoğun Kayıt Ölçümü", CAPACITY);
+		eventService.setBurstMode(burst.getId(), true);
+
+		long directP99 = registerAllAndMeasureP99(direct);
+		long burstP99 = registerAllAndMeasureP99(burst);
+		// Kuyruktaki kayıtlar yazılır, defter kapanır
+		eventService.setBurstMode(burst.getId(), false);
+
+		// İki yolda da kontenjan tam dolmalı, aşılmamalı
+		for (Event event : List.of(direct, burst)) {
+			assertEquals(CAPACITY, participationRepository.countParticipantsByEventId(event.getId()));
+			assertEquals(CAPACITY, eventRepository.findById(event.getId()).orElseThrow().getParticipantCount());
+		}
+
+		assertTrue(burstP99 < directP99, String.format("p99 gecikme: yoğun mod %d µs, doğrudan kayıt %d µs",
+				burstP99 / 1_000, directP99 / 1_000));
+	}
+
+	// Tüm kullanıcılar aynı anda kaydolur; her çağrının süresi ayrı ölçülür
+	private long registerAllAndMeasureP99(Event event) throws Exception {
+		List<Callable<Long>> registrations = new ArrayList<>();
+		for (User user : users) {
+			registrations.add(() -> {
+				long started = System.nanoTime();
+				eventService.registerForEvent(event.getId(), user.getId());
+				return System.nanoTime() - started;
+			});
+		}
+		List<Future<Long>> results = runConcurrently(THREADS, registrations);
+
+		long[] latencies = new long[results.size()];
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = results.get(i).get();
+		}
+		Arrays.sort(latencies);
+		return latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.repository.EventRepository;
+import com.example.cmManagementSystem.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Servis testlerinin ortak verileri: oluşturulan etkinlik ve kullanıcılar kaydedilir,
+ * cleanUp ile (etkinlikler bağlı kayıtlarıyla birlikte) silinir. Testler @Import ile kullanır.
+ */
+@TestComponent
+class ServiceTestFixtures {
+
+	private static final long CONCURRENT_TIMEOUT_MINUTES = 5;
+
+	private final EventRepository eventRepository;
+	private final UserRepository userRepository;
+	private final EventCleanupService eventCleanupService;
+
+	private final List<Event> events = new ArrayList<>();
+	private final List<User> users = new ArrayList<>();
+
+	@Autowired
+	ServiceTestFixtures(EventRepository eventRepository, UserRepository userRepository,
+			EventCleanupService eventCleanupService) {
+		this.eventRepository = eventRepository;
+		this.userRepository = userRepository;
+		this.eventCleanupService = eventCleanupService;
+	}
+
+	// Üç gün sonra başlayan iki saatlik etkinlik; maxParticipants null ise kontenjan sınırsız
+	Event createEvent(String title, Integer maxParticipants) {
+		return createEvent(title, maxParticipants, true);
+	}
+
+	Event createEvent(String title, Integer maxParticipants, boolean allowWaitlist) {
+		Event event = new Event();
+		event.setTitle(title);
+		event.setStartDate(LocalDateTime.now().plusDays(3));
+		event.setEndDate(LocalDateTime.now().plusDays(3).plusHours(2));
+		event.setMaxParticipants(maxParticipants);
+		event.setAllowWaitlist(allowWaitlist);
+		event = eventRepository.save(event);
+		events.add(event);
+		return event;
+	}
+
+	User createUser(String name) {
+		return createUsers(name, 1).get(0);
+	}
+
+	// E-postalar benzersizdir: önceki çalıştırmalardan kalan kullanıcılarla çakışmaz
+	List<User> createUsers(String prefix, int count) {
+		List<User> newUsers = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			User user = new User();
+			user.setName(count == 1 ? prefix : prefix + "-" + i);
+			user.setEmail(prefix + "-" + i + "-" + System.nanoTime() + "@test.local");
+			user.setPassword("secret");
+			user.setRole(User.Role.STUDENT);
+			newUsers.add(user);
+		}
+		List<User> saved = userRepository.saveAll(newUsers);
+		users.addAll(saved);
+		return saved;
+	}
+
+	List<Event> events() {
+		return events;
+	}
+
+	void cleanUp() {
+		if (!events.isEmpty()) {
+			eventCleanupService.deleteEvents(events.stream().map(Event::getId).toList());
+			events.clear();
+		}
+		userRepository.deleteAll(users);
+		users.clear();
+	}
+
+	/**
+	 * Görevleri threads iş parçacığında aynı anda başlatır ve hepsi bitene kadar bekler.
+	 * Sonuçlar ve görevlerin fırlattığı hatalar dönen Future'lardan okunur.
+	 */
+	static <T> List<Future<T>> runConcurrently(int threads, List<Callable<T>> tasks) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<T>> results = new ArrayList<>();
+			for (Callable<T> task : tasks) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(CONCURRENT_TIMEOUT_MINUTES, TimeUnit.MINUTES),
+					"Eşzamanlı görevler zamanında bitmedi");
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
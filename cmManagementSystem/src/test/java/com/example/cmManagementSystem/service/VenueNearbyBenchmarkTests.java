@@ -0,0 +1,107 @@
+package com.example.cmManagementSystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Tag("benchmark")
+class VenueNearbyBenchmarkTests {
+
+	private static final int VENUE_COUNT = 50_000;
+	private static final int QUERY_COUNT = 1_000;
+	private static final String NAME_PREFIX = "nearby-benchmark-";
+
+	@Autowired
+	private VenueGeoIndex geoIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM venues WHERE name LIKE ?", NAME_PREFIX + "%");
+		geoIndex.rebuild();
+	}
+
+	@Test
+	void nearbyQueriesOverFiftyThousandVenuesAreSortedAndFast() {
+		// Türkiye sınırları içinde rastgele ama tekrarlanabilir koordinatlar
+		Random random = new Random(42);
+		List<Object[]> rows = new ArrayList<>(VENUE_COUNT);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int i = 0; i < VENUE_COUNT; i++) {
+			double latitude = 36.0 + random.nextDouble() * 6.0;
+			double longitude = 26.0 + random.nextDouble() * 19.0;
+			rows.add(new Object[]{NAME_PREFIX + i, "Test Adresi", String.valueOf(latitude), String.valueOf(longitude),
+					latitude, longitude, false, now, now});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO venues (name, address, latitude, longitude, geo_lat, geo_lon, " +
+				"is_university_venue, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		assertTrue(geoIndex.rebuild() >= VENUE_COUNT);
+
+		Map<Long, double[]> coordinates = new HashMap<>();
+		jdbcTemplate.query("SELECT id, geo_lat, geo_lon FROM venues WHERE geo_lat IS NOT NULL",
+				rs -> {
+					coordinates.put(rs.getLong(1), new double[]{rs.getDouble(2), rs.getDouble(3)});
+				});
+
+		double[][] queries = new double[QUERY_COUNT][];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			queries[i] = new double[]{36.0 + random.nextDouble() * 6.0, 26.0 + random.nextDouble() * 19.0};
+		}
+
+		long started = System.nanoTime();
+		for (double[] query : queries) {
+			geoIndex.findNearby(query[0], query[1], 10.0, 20);
+		}
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+		assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) <= 0,
+				String.format("%d mekanda %d yakınlık sorgusu: %d ms", VENUE_COUNT, QUERY_COUNT, elapsed.toMillis()));
+
+		// Birkaç sorgu tam taramayla karşılaştırılır
+		for (int i = 0; i < 20; i++) {
+			double[] query = queries[i];
+			List<VenueGeoIndex.NearbyVenue> result = geoIndex.findNearby(query[0], query[1], 10.0, 20);
+			List<Long> expected = coordinates.entrySet().stream()
+					.filter(entry -> distanceKm(query, entry.getValue()) <= 10.0)
+					.sorted(Comparator.comparingDouble((Map.Entry<Long, double[]> entry) -> distanceKm(query, entry.getValue()))
+							.thenComparing(Map.Entry::getKey))
+					.limit(20)
+					.map(Map.Entry::getKey)
+					.toList();
+
+			assertEquals(expected, result.stream().map(VenueGeoIndex.NearbyVenue::venueId).toList());
+			for (int j = 1; j < result.size(); j++) {
+				assertTrue(result.get(j - 1).distanceKm() <= result.get(j).distanceKm());
+			}
+		}
+	}
+
+	private static double distanceKm(double[] from, double[] to) {
+		double dLat = Math.toRadians(to[0] - from[0]);
+		double dLon = Math.toRadians(to[1] - from[1]);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+				+ Math.cos(Math.toRadians(from[0])) * Math.cos(Math.toRadians(to[0])) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * 6371.0088 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.VenueReservationDto;
+import com.example.cmManagementSystem.entity.Venue;
+import com.example.cmManagementSystem.entity.VenueReservation;
+import com.example.cmManagementSystem.exception.ReservationConflictException;
+import com.example.cmManagementSystem.repository.VenueRepository;
+import com.example.cmManagementSystem.repository.VenueReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.example.cmManagementSystem.service.ServiceTestFixtures.runConcurrently;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class VenueReservationConcurrencyTests {
+
+	private static final int CONCURRENT_BOOKINGS = 40;
+	private static final int SLOT_COUNT = 8;
+
+	@Autowired
+	private VenueService venueService;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private VenueReservationRepository reservationRepository;
+
+	private final List<Venue> venues = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		for (Venue venue : venues) {
+			List<VenueReservation> reservations = reservationRepository.findByVenueId(venue.getId());
+			for (VenueReservation reservation : reservations) {
+				if (reservation.getStatus() != VenueReservation.ReservationStatus.CANCELLED) {
+					venueService.cancelReservation(reservation.getId());
+				}
+			}
+			reservationRepository.deleteAll(reservations);
+			venueRepository.delete(venue);
+		}
+	}
+
+	@Test
+	void concurrentBookingsOfSameVenueNeverOverlap() throws Exception {
+		Venue hall = createVenue("Eşzamanlı Rezervasyon Salonu");
+		Venue otherHall = createVenue("Bağımsız Salon");
+		LocalDateTime base = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.HOURS);
+
+		// Her istek 90 dakikalık, başlangıçları 30 dakika arayla kayan aralıklar: komşu istekler çakışır
+		List<Callable<VenueReservationDto>> bookings = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_BOOKINGS; i++) {
+			Venue venue = i % 4 == 3 ? otherHall : hall;
+			LocalDateTime startTime = base.plusMinutes(30L * (i % SLOT_COUNT));
+			bookings.add(() -> venueService.createReservation(venue.getId(), VenueReservationDto.builder()
+					.venueId(venue.getId())
+					.startTime(startTime)
+					.endTime(startTime.plusMinutes(90))
+					.build()));
+		}
+
+		int succeeded = 0;
+		for (Future<VenueReservationDto> result : runConcurrently(CONCURRENT_BOOKINGS, bookings)) {
+			try {
+				result.get();
+				succeeded++;
+			} catch (ExecutionException e) {
+				assertInstanceOf(ReservationConflictException.class, e.getCause());
+			}
+		}
+		assertTrue(succeeded >= 2, "Her iki salonda da en az bir rezervasyon başarılı olmalı");
+
+		assertNoOverlaps(hall);
+		assertNoOverlaps(otherHall);
+	}
+
+	private void assertNoOverlaps(Venue venue) {
+		List<VenueReservation> active = new ArrayList<>(reservationRepository.findByVenueId(venue.getId()));
+		active.removeIf(r -> r.getStatus() == VenueReservation.ReservationStatus.CANCELLED
+				|| r.getStatus() == VenueReservation.ReservationStatus.REJECTED);
+		assertFalse(active.isEmpty());
+
+		active.sort(Comparator.comparing(VenueReservation::getStartTime));
+		for (int i = 1; i < active.size(); i++) {
+			VenueReservation previous = active.get(i - 1);
+			VenueReservation current = active.get(i);
+			assertFalse(current.getStartTime().isBefore(previous.getEndTime()),
+					"Çakışan rezervasyonlar: " + previous.getId() + " ve " + current.getId());
+		}
+	}
+
+	private Venue createVenue(String name) {
+		Venue venue = new Venue();
+		venue.setName(name);
+		venue.setAddress("Test Kampüsü");
+		venue.setCapacity(100);
+		venue = venueRepository.save(venue);
+		venues.add(venue);
+		return venue;
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static com.example.cmManagementSystem.service.ServiceTestFixtures.runConcurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Import(ServiceTestFixtures.class)
+class WaitingListConcurrencyTests {
+
+	private static final int CONCURRENT_JOINS = 20;
+
+	@Autowired
+	private ServiceTestFixtures fixtures;
+
+	@Autowired
+	private WaitingListService waitingListService;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void concurrentJoinsReceiveDistinctConsecutivePositions() throws Exception {
+		Event event = fixtures.createEvent("Bekleme Listesi Eşzamanlılık Testi", null);
+
+		// Tüm iş parçacıkları aynı anda başlar; pozisyonlar sayaçtan ayrıldığı için çakışma olmamalı
+		List<Callable<WaitingListDto>> joins = new ArrayList<>();
+		for (User user : fixtures.createUsers("waitlist", CONCURRENT_JOINS)) {
+			joins.add(() -> waitingListService.addToWaitingList(event.getId(), user.getId(), null));
+		}
+
+		TreeSet<Integer> positions = new TreeSet<>();
+		for (Future<WaitingListDto> result : runConcurrently(CONCURRENT_JOINS, joins)) {
+			positions.add(result.get().getPosition());
+		}
+
+		assertEquals(CONCURRENT_JOINS, positions.size());
+		assertEquals(1, positions.first());
+		assertEquals(CONCURRENT_JOINS, positions.last());
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.EventParticipation;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.repository.EventParticipationRepository;
+import com.example.cmManagementSystem.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Import(ServiceTestFixtures.class)
+class WaitingListPromotionTests {
+
+	@Autowired
+	private ServiceTestFixtures fixtures;
+
+	@Autowired
+	private WaitingListService waitingListService;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private EventParticipationRepository participationRepository;
+
+	private Event event;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void cancelledPromotionIsNotPromotedAgain() {
+		event = fixtures.createEvent("Bekleme Listesi Terfi Testi", 1);
+
+		User first = fixtures.createUser("promotion-first");
+		User second = fixtures.createUser("promotion-second");
+		waitingListService.addToWaitingList(event.getId(), first.getId(), null);
+		waitingListService.addToWaitingList(event.getId(), second.getId(), null);
+
+		// Sıradaki ilk kişi tek koltuğa kaydedilir, sonra katılımını iptal eder
+		assertEquals(1, waitingListService.autoPromoteFromWaitingList(event.getId(), 0));
+		assertEquals(EventParticipation.ParticipationStatus.REGISTERED, participationStatus(first));
+		eventService.cancelRegistration(event.getId(), first.getId());
+
+		// Boşalan koltuk iptal eden kişiye değil, sıradaki kişiye verilmeli
+		assertEquals(1, waitingListService.autoPromoteFromWaitingList(event.getId(), 0));
+		assertEquals(EventParticipation.ParticipationStatus.CANCELLED, participationStatus(first));
+		assertEquals(EventParticipation.ParticipationStatus.REGISTERED, participationStatus(second));
+		assertEquals(1, eventRepository.findById(event.getId()).orElseThrow().getParticipantCount());
+
+		// Sırada kimse kalmadı
+		eventService.cancelRegistration(event.getId(), second.getId());
+		assertEquals(0, waitingListService.autoPromoteFromWaitingList(event.getId(), 0));
+	}
+
+	@Test
+	void promotingSameEntryTwiceReservesOneSeat() {
+		event = fixtures.createEvent("Bekleme Listesi Tekrar Terfi Testi", 5);
+
+		User user = fixtures.createUser("promotion-twice");
+		WaitingListDto entry = waitingListService.addToWaitingList(event.getId(), user.getId(), null);
+
+		waitingListService.promoteToParticipant(entry.getId());
+		// Kabul edilmiş kayıt yeniden terfi ettirilemez; sayaç ikinci kez artmamalı
+		assertThrows(IllegalStateException.class, () -> waitingListService.promoteToParticipant(entry.getId()));
+
+		assertEquals(EventParticipation.ParticipationStatus.REGISTERED, participationStatus(user));
+		assertEquals(1, eventRepository.findById(event.getId()).orElseThrow().getParticipantCount());
+	}
+
+	private EventParticipation.ParticipationStatus participationStatus(User user) {
+		return participationRepository.findByEventIdAndUserId(event.getId(), user.getId())
+				.orElseThrow()
+				.getStatus();
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.example.cmManagementSystem.service;
+
+import com.example.cmManagementSystem.dto.WaitingListDto;
+import com.example.cmManagementSystem.dto.WaitingListMoveDto;
+import com.example.cmManagementSystem.entity.Event;
+import com.example.cmManagementSystem.entity.User;
+import com.example.cmManagementSystem.entity.WaitingList;
+import com.example.cmManagementSystem.repository.WaitingListRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(ServiceTestFixtures.class)
+class WaitingListReorderBenchmarkTests {
+
+	private static final int ENTRY_COUNT = 5_000;
+	private static final int MOVE_COUNT = 1_000;
+
+	@Autowired
+	private ServiceTestFixtures fixtures;
+
+	@Autowired
+	private WaitingListService waitingListService;
+
+	@Autowired
+	private WaitingListRepository waitingListRepository;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void reorderOfFiveThousandEntriesRunsAsOneBatch() {
+		Event event = fixtures.createEvent("Bekleme Listesi Sıralama Ölçümü", null);
+		List<User> users = fixtures.createUsers("reorder", ENTRY_COUNT);
+
+		List<WaitingList> entries = new ArrayList<>();
+		for (int i = 0; i < ENTRY_COUNT; i++) {
+			WaitingList entry = new WaitingList();
+			entry.setEvent(event);
+			entry.setUser(users.get(i));
+			entry.setJoinDate(LocalDateTime.now());
+			entry.setStatus(WaitingList.WaitingStatus.WAITING);
+			entry.setNotificationSent(false);
+			// Boşluklu pozisyonlar: daha önce silinmiş kayıtların bıraktığı aralıkları taklit eder
+			entry.setPosition((i + 1) * 2);
+			entries.add(entry);
+		}
+		entries = waitingListRepository.saveAll(entries);
+
+		// Rastgele ama tekrarlanabilir taşımalar; hedef sıralar birbirinden farklı
+		Random random = new Random(42);
+		List<Integer> targets = new ArrayList<>();
+		for (int i = 1; i <= ENTRY_COUNT; i++) {
+			targets.add(i);
+		}
+		Collections.shuffle(targets, random);
+		List<WaitingList> shuffledEntries = new ArrayList<>(entries);
+		Collections.shuffle(shuffledEntries, random);
+
+		List<WaitingListMoveDto> moves = new ArrayList<>();
+		Map<Long, Integer> expectedPositions = new HashMap<>();
+		for (int i = 0; i < MOVE_COUNT; i++) {
+			Long id = shuffledEntries.get(i).getId();
+			moves.add(new WaitingListMoveDto(id, targets.get(i)));
+			expectedPositions.put(id, targets.get(i));
+		}
+
+		long started = System.nanoTime();
+		List<WaitingListDto> result = waitingListService.reorderWaitingList(event.getId(), moves);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+		assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) <= 0,
+				String.format("%d kayıtlık listede %d taşıma: %d ms", ENTRY_COUNT, MOVE_COUNT, elapsed.toMillis()));
+
+		assertEquals(ENTRY_COUNT, result.size());
+		for (int i = 0; i < result.size(); i++) {
+			WaitingListDto dto = result.get(i);
+			assertEquals(i + 1, dto.getPosition());
+			Integer expected = expectedPositions.get(dto.getId());
+			if (expected != null) {
+				assertEquals(expected, dto.getPosition());
+			}
+		}
+	}
+
+}